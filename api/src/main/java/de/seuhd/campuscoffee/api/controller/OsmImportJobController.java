@@ -0,0 +1,53 @@
+package de.seuhd.campuscoffee.api.controller;
+
+import de.seuhd.campuscoffee.api.dtos.OsmImportJobDto;
+import de.seuhd.campuscoffee.api.dtos.OsmImportJobRequestDto;
+import de.seuhd.campuscoffee.api.mapper.OsmImportJobDtoMapper;
+import de.seuhd.campuscoffee.domain.model.OsmImportJob;
+import de.seuhd.campuscoffee.domain.ports.OsmImportJobService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+/**
+ * Controller for asynchronous OSM import jobs.
+ * Jobs are accepted immediately; their progress can be polled with the URI in the {@code Location} header.
+ */
+@Controller
+@RequestMapping("/api/pos/import/jobs")
+@RequiredArgsConstructor
+@Slf4j
+public class OsmImportJobController {
+    private final OsmImportJobService osmImportJobService;
+    private final OsmImportJobDtoMapper osmImportJobDtoMapper;
+
+    @PostMapping("")
+    public ResponseEntity<OsmImportJobDto> submit(
+            @RequestBody OsmImportJobRequestDto request) {
+        if ((request.nodeIds() == null) == (request.boundingBox() == null)) {
+            throw new IllegalArgumentException("Either node IDs or a bounding box must be given.");
+        }
+        OsmImportJob job = request.nodeIds() != null
+                ? osmImportJobService.submit(request.nodeIds())
+                : osmImportJobService.submit(osmImportJobDtoMapper.toDomain(request.boundingBox()));
+        log.info("Controller accepted OSM import job {}", job.id());
+        return ResponseEntity
+                .accepted()
+                .location(ServletUriComponentsBuilder.fromCurrentRequest()
+                        .path("/{id}")
+                        .buildAndExpand(job.id())
+                        .toUri())
+                .body(osmImportJobDtoMapper.fromDomain(job));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<OsmImportJobDto> getById(
+            @PathVariable Long id) {
+        return ResponseEntity.ok(
+                osmImportJobDtoMapper.fromDomain(osmImportJobService.getById(id))
+        );
+    }
+}
@@ -0,0 +1,128 @@
+package de.seuhd.campuscoffee.api.controller;
+
+import de.seuhd.campuscoffee.api.dtos.PosChangePageDto;
+import de.seuhd.campuscoffee.api.mapper.PosChangeDtoMapper;
+import de.seuhd.campuscoffee.domain.model.PosChange;
+import de.seuhd.campuscoffee.domain.model.PosChangePage;
+import de.seuhd.campuscoffee.domain.ports.PosService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Controller for the change feed of the POS catalog.
+ * Instead of polling all POS, clients load them once and then only receive the changes, each identified by a
+ * sequence number. The changes are pushed as server-sent events ({@code Accept: text/event-stream}) or returned
+ * by long polling. Waiting for changes happens on virtual threads, so open connections do not block request threads.
+ */
+@Controller
+@RequestMapping("/api/pos/changes")
+@RequiredArgsConstructor
+@Slf4j
+public class PosChangeController {
+    private static final ThreadFactory CHANGE_FEED_THREADS = Thread.ofVirtual().name("pos-changes-", 0).factory();
+    private static final Duration ASYNC_TIMEOUT_MARGIN = Duration.ofSeconds(10);
+
+    private final PosService posService;
+    private final PosChangeDtoMapper posChangeDtoMapper;
+    // clients reconnect automatically after the timeout and resume with the Last-Event-ID header
+    @Value("${campus-coffee.changes.sse-timeout:30m}")
+    private final Duration sseTimeout;
+    @Value("${campus-coffee.changes.heartbeat-interval:15s}")
+    private final Duration heartbeatInterval;
+
+    @GetMapping(value = "", produces = MediaType.APPLICATION_JSON_VALUE)
+    public DeferredResult<ResponseEntity<PosChangePageDto>> getChanges(
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "100") int limit,
+            @RequestParam(defaultValue = "0") int wait) {
+        Duration timeout = Duration.ofSeconds(wait);
+        DeferredResult<ResponseEntity<PosChangePageDto>> result =
+                new DeferredResult<>(timeout.plus(ASYNC_TIMEOUT_MARGIN).toMillis());
+        if (wait == 0) {
+            result.setResult(ResponseEntity.ok(posChangeDtoMapper.fromDomain(
+                    posService.getChanges(after, limit, Duration.ZERO))));
+            return result;
+        }
+        Thread poller = CHANGE_FEED_THREADS.newThread(() -> {
+            try {
+                result.setResult(ResponseEntity.ok(posChangeDtoMapper.fromDomain(
+                        posService.getChanges(after, limit, timeout))));
+            } catch (RuntimeException e) {
+                result.setErrorResult(e); // handled by the GlobalExceptionHandler
+            }
+        });
+        // stop waiting if the client disconnects
+        result.onError(e -> poller.interrupt());
+        result.onTimeout(poller::interrupt);
+        poller.start();
+        return result;
+    }
+
+    @GetMapping(value = "", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(
+            @RequestParam(required = false) Long after,
+            @RequestHeader(value = "Last-Event-ID", required = false) @Nullable Long lastEventId) {
+        // EventSource clients send the ID of the last received event when they reconnect
+        PosChangePage firstPage = posService.getChanges(lastEventId != null ? lastEventId : after,
+                PosService.MAX_CHANGES_LIMIT, Duration.ZERO);
+        SseEmitter emitter = new SseEmitter(sseTimeout.toMillis());
+        Thread sender = CHANGE_FEED_THREADS.newThread(() -> sendChanges(emitter, firstPage));
+        emitter.onCompletion(sender::interrupt);
+        emitter.onError(e -> sender.interrupt());
+        sender.start();
+        log.debug("Streaming POS changes after sequence {}", firstPage.lastSequence());
+        return emitter;
+    }
+
+    /**
+     * Sends the changes as server-sent events until the client disconnects, the emitter times out, or an error occurs.
+     * Each change is sent as event {@code change} with the sequence as event ID. If the client has to reload all POS,
+     * event {@code reset} is sent with the sequence to resume from.
+     *
+     * @param emitter   the emitter of the response
+     * @param firstPage the changes to send first
+     */
+    private void sendChanges(SseEmitter emitter, PosChangePage firstPage) {
+        PosChangePage page = firstPage;
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                if (page.reset()) {
+                    emitter.send(SseEmitter.event()
+                            .id(Long.toString(page.lastSequence()))
+                            .name("reset")
+                            .data(page.lastSequence()));
+                }
+                for (PosChange change : page.changes()) {
+                    emitter.send(SseEmitter.event()
+                            .id(Long.toString(change.sequence()))
+                            .name("change")
+                            .data(posChangeDtoMapper.fromDomain(change), MediaType.APPLICATION_JSON));
+                }
+                if (page.changes().isEmpty() && !page.reset()) {
+                    // comments are ignored by clients, but reveal closed connections and keep proxies from timing out
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                }
+                page = posService.getChanges(page.lastSequence(), PosService.MAX_CHANGES_LIMIT, heartbeatInterval);
+            }
+        } catch (IOException | IllegalStateException e) {
+            // the client has disconnected or the emitter has completed
+            log.debug("Stopped streaming POS changes: {}", e.getMessage());
+        } catch (RuntimeException e) {
+            // complete the response instead of leaving the client waiting until the emitter times out
+            log.warn("Failed to stream POS changes", e);
+            emitter.completeWithError(e);
+        }
+    }
+}
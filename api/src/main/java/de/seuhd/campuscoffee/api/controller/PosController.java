@@ -1,17 +1,62 @@
 package de.seuhd.campuscoffee.api.controller;
 
+import com.fasterxml.jackson.core.JacksonException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import de.seuhd.campuscoffee.api.dtos.NearbyPosDto;
+import de.seuhd.campuscoffee.api.dtos.OsmImportResultDto;
+import de.seuhd.campuscoffee.api.dtos.PosBatchResultDto;
+import de.seuhd.campuscoffee.api.dtos.PosDeltaDto;
 import de.seuhd.campuscoffee.api.dtos.PosDto;
+import de.seuhd.campuscoffee.api.dtos.PosImportSummaryDto;
+import de.seuhd.campuscoffee.api.dtos.PosPageDto;
+import de.seuhd.campuscoffee.api.mapper.NearbyPosDtoMapper;
+import de.seuhd.campuscoffee.api.mapper.OsmImportResultDtoMapper;
+import de.seuhd.campuscoffee.api.mapper.PosBatchResultDtoMapper;
+import de.seuhd.campuscoffee.api.mapper.PosDeltaDtoMapper;
 import de.seuhd.campuscoffee.api.mapper.PosDtoMapper;
+import de.seuhd.campuscoffee.api.mapper.PosImportSummaryDtoMapper;
+import de.seuhd.campuscoffee.domain.model.CampusType;
+import de.seuhd.campuscoffee.domain.model.Pos;
+import de.seuhd.campuscoffee.domain.model.PosBatchResult;
+import de.seuhd.campuscoffee.domain.model.PosBatchStatus;
+import de.seuhd.campuscoffee.domain.model.PosCatalogVersion;
+import de.seuhd.campuscoffee.domain.model.PosFilter;
+import de.seuhd.campuscoffee.domain.model.PosType;
 import de.seuhd.campuscoffee.domain.ports.PosService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Controller for handling POS-related API requests.
@@ -21,13 +66,149 @@ import java.util.List;
 @RequiredArgsConstructor
 @Slf4j
 public class PosController {
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+
     private final PosService posService;
     private final PosDtoMapper posDtoMapper;
+    private final OsmImportResultDtoMapper osmImportResultDtoMapper;
+    private final NearbyPosDtoMapper nearbyPosDtoMapper;
+    private final PosBatchResultDtoMapper posBatchResultDtoMapper;
+    private final PosImportSummaryDtoMapper posImportSummaryDtoMapper;
+    private final PosDeltaDtoMapper posDeltaDtoMapper;
+    private final ObjectMapper objectMapper;
 
     @GetMapping("")
-    public ResponseEntity<List<PosDto>> getAll() {
+    public ResponseEntity<List<PosDto>> getAll(
+            @RequestParam(required = false) CampusType campus,
+            @RequestParam(required = false) PosType type,
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) Integer postalCode,
+            WebRequest request) {
+        // the catalog version covers every filter, since any change of a POS may change a filtered list
+        PosCatalogVersion version = posService.getCatalogVersion();
+        if (request.checkNotModified(etag(version.count(), version.lastUpdatedAt()), lastModified(version.lastUpdatedAt()))) {
+            return null; // 304 response without body
+        }
+        return ResponseEntity.ok(
+                posService.getAll(new PosFilter(campus, type, city, postalCode)).stream()
+                        .map(posDtoMapper::fromDomain)
+                        .toList()
+        );
+    }
+
+    @GetMapping(value = "", params = "limit")
+    public ResponseEntity<PosPageDto> getPage(
+            @RequestParam(required = false) Long after,
+            @RequestParam int limit,
+            @RequestParam(required = false) CampusType campus,
+            @RequestParam(required = false) PosType type,
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) Integer postalCode) {
+        List<PosDto> items = posService.getPage(new PosFilter(campus, type, city, postalCode), after, limit).stream()
+                .map(posDtoMapper::fromDomain)
+                .toList();
+        // a full page indicates that there may be more POS after the last item
+        Long nextAfter = items.size() == limit ? items.getLast().id() : null;
+        return ResponseEntity.ok(new PosPageDto(items, nextAfter));
+    }
+
+    @GetMapping(value = "", params = {"after", "!limit"})
+    public ResponseEntity<PosPageDto> getPageWithoutLimit() {
+        // without this mapping, the request would be handled by getAll and the position would be ignored
+        throw new IllegalArgumentException("A page requires a 'limit': 'after' cannot be used without it.");
+    }
+
+    @GetMapping(value = "", params = {"updatedSince", "!limit", "!after"})
+    public ResponseEntity<PosDeltaDto> getDelta(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime updatedSince) {
+        return ResponseEntity.ok(
+                posDeltaDtoMapper.fromDomain(posService.getDelta(updatedSince))
+        );
+    }
+
+    @GetMapping(value = "", params = {"updatedSince", "limit"})
+    public ResponseEntity<PosDeltaDto> getDeltaPage() {
+        // without this mapping, the request would be handled by getPage and the watermark would be ignored
+        throw new IllegalArgumentException("A delta cannot be paged: 'updatedSince' and 'limit' cannot be combined.");
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> stream() {
+        // let the generator flush its buffer when it is full instead of after every single POS
+        ObjectWriter writer = objectMapper.writerFor(PosDto.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.writeStartArray();
+                posService.streamAll(pos -> writeValue(generator, writer, posDtoMapper.fromDomain(pos)));
+                generator.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) @Nullable String acceptEncoding) {
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip");
+        ObjectWriter writer = objectMapper.writerFor(PosDto.class);
+        StreamingResponseBody body = outputStream -> {
+            // one JSON object per line, read from a database cursor and written through a bounded buffer
+            try (OutputStream output = gzip
+                    ? new GZIPOutputStream(outputStream, STREAM_BUFFER_SIZE)
+                    : new BufferedOutputStream(outputStream, STREAM_BUFFER_SIZE)) {
+                posService.streamAll(pos -> writeLine(output, writer, posDtoMapper.fromDomain(pos)));
+            }
+        };
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<PosImportSummaryDto> importAll(
+            @RequestHeader(value = HttpHeaders.CONTENT_ENCODING, required = false) @Nullable String contentEncoding,
+            InputStream body) throws IOException {
+        InputStream input = body;
+        if ("gzip".equalsIgnoreCase(contentEncoding)) {
+            try {
+                input = new GZIPInputStream(body, STREAM_BUFFER_SIZE);
+            } catch (IOException e) {
+                throw new IllegalArgumentException("The request body is not gzip-compressed.", e);
+            }
+        }
+        try (MappingIterator<PosDto> posDtos = objectMapper.readerFor(PosDto.class).readValues(input)) {
+            return ResponseEntity.ok(posImportSummaryDtoMapper.fromDomain(
+                    posService.importAll(toPosIterator(posDtos))
+            ));
+        }
+    }
+
+    @GetMapping("/nearby")
+    public ResponseEntity<List<NearbyPosDto>> getNearby(
+            @RequestParam double lat,
+            @RequestParam double lon,
+            @RequestParam(defaultValue = "1000") double radius,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(
+                posService.getNearby(lat, lon, radius, limit).stream()
+                        .map(nearbyPosDtoMapper::fromDomain)
+                        .toList()
+        );
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<PosDto>> search(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
         return ResponseEntity.ok(
-                posService.getAll().stream()
+                posService.search(q, limit).stream()
                         .map(posDtoMapper::fromDomain)
                         .toList()
         );
@@ -35,9 +216,14 @@ public class PosController {
 
     @GetMapping("/{id}")
     public ResponseEntity<PosDto> getById(
-            @PathVariable Long id) {
+            @PathVariable Long id,
+            WebRequest request) {
+        Pos pos = posService.getById(id);
+        if (request.checkNotModified(etag(pos.id(), pos.updatedAt()), lastModified(pos.updatedAt()))) {
+            return null; // 304 response without body
+        }
         return ResponseEntity.ok(
-                posDtoMapper.fromDomain(posService.getById(id))
+                posDtoMapper.fromDomain(pos)
         );
     }
 
@@ -50,6 +236,18 @@ public class PosController {
                 .body(created);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<PosBatchResultDto>> createBatch(
+            @RequestBody List<PosDto> posDtos) {
+        return ResponseEntity.ok(upsertBatch(posDtos, true));
+    }
+
+    @PutMapping("/batch")
+    public ResponseEntity<List<PosBatchResultDto>> updateBatch(
+            @RequestBody List<PosDto> posDtos) {
+        return ResponseEntity.ok(upsertBatch(posDtos, false));
+    }
+
     @PostMapping("/import/osm/{nodeId}")
     public ResponseEntity<PosDto> create(
             @PathVariable Long nodeId) {
@@ -63,6 +261,17 @@ public class PosController {
                 .body(created);
     }
 
+    @PostMapping("/import/osm")
+    public ResponseEntity<List<OsmImportResultDto>> importFromOsm(
+            @RequestBody List<Long> nodeIds) {
+        log.info("Controller received OSM import request for {} node IDs", nodeIds.size());
+        return ResponseEntity.ok(
+                posService.importFromOsmNodes(nodeIds).stream()
+                        .map(osmImportResultDtoMapper::fromDomain)
+                        .toList()
+        );
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<PosDto> update(
             @PathVariable Long id,
@@ -73,6 +282,13 @@ public class PosController {
         return ResponseEntity.ok(upsert(posDto));
     }
 
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> delete(
+            @PathVariable Long id) {
+        posService.delete(id);
+        return ResponseEntity.noContent().build();
+    }
+
     /**
      * Common upsert logic for create and update.
      *
@@ -87,6 +303,133 @@ public class PosController {
         );
     }
 
+    /**
+     * Common batch upsert logic for batch create and update.
+     * POS with an ID in a create batch, or without an ID in an update batch, are reported as invalid
+     * without affecting the other POS.
+     *
+     * @param posDtos the POS DTOs to map and upsert
+     * @param create  true if the POS are to be created, false if they are to be updated
+     * @return the result per POS mapped to the DTO format
+     */
+    private List<PosBatchResultDto> upsertBatch(List<PosDto> posDtos, boolean create) {
+        log.info("Controller received batch {} request for {} POS", create ? "create" : "update", posDtos.size());
+        PosBatchResult[] results = new PosBatchResult[posDtos.size()];
+        List<Integer> validIndexes = new ArrayList<>(posDtos.size());
+        for (int i = 0; i < posDtos.size(); i++) {
+            if ((posDtos.get(i).id() == null) == create) {
+                validIndexes.add(i);
+            } else {
+                results[i] = PosBatchResult.builder()
+                        .index(i)
+                        .status(PosBatchStatus.INVALID)
+                        .message(create ? "POS to create must not have an ID." : "POS to update must have an ID.")
+                        .build();
+            }
+        }
+        List<PosBatchResult> upsertResults = posService.upsertBatch(validIndexes.stream()
+                .map(index -> posDtoMapper.toDomain(posDtos.get(index)))
+                .toList());
+        // the results of the service are indexed like the valid POS
+        for (PosBatchResult result : upsertResults) {
+            int index = validIndexes.get(result.index());
+            results[index] = result.toBuilder().index(index).build();
+        }
+        return Arrays.stream(results)
+                .map(posBatchResultDtoMapper::fromDomain)
+                .toList();
+    }
+
+    /**
+     * Builds a strong entity tag from a key and an update timestamp (UTC) with microsecond precision,
+     * which is the precision of timestamps stored in the database.
+     *
+     * @param key       the POS ID or, for lists, the number of POS
+     * @param updatedAt the update timestamp; may be null if there is nothing to version
+     * @return the quoted entity tag
+     */
+    private static String etag(long key, @Nullable LocalDateTime updatedAt) {
+        long micros = updatedAt == null ? 0 : ChronoUnit.MICROS.between(Instant.EPOCH, updatedAt.toInstant(ZoneOffset.UTC));
+        return "\"" + key + "-" + micros + "\"";
+    }
+
+    /**
+     * Converts an update timestamp (UTC) to the value of the {@code Last-Modified} header.
+     *
+     * @param updatedAt the update timestamp; may be null
+     * @return the timestamp in milliseconds since the epoch, or -1 to omit the header
+     */
+    private static long lastModified(@Nullable LocalDateTime updatedAt) {
+        return updatedAt == null ? -1 : updatedAt.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    /**
+     * Adapts the lazily parsed lines of an NDJSON request body to an iterator of POS.
+     * Lines are only parsed when the next POS is requested, so the body is never held in memory completely.
+     *
+     * @param posDtos the iterator over the parsed lines
+     * @return an iterator that maps each line to a POS
+     * @throws IllegalArgumentException from the iterator methods if a line is not a valid POS
+     */
+    private Iterator<Pos> toPosIterator(MappingIterator<PosDto> posDtos) {
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                try {
+                    return posDtos.hasNextValue();
+                } catch (IOException e) {
+                    throw invalidLine(e);
+                }
+            }
+
+            @Override
+            public Pos next() {
+                try {
+                    return posDtoMapper.toDomain(posDtos.nextValue());
+                } catch (IOException e) {
+                    throw invalidLine(e);
+                }
+            }
+
+            private IllegalArgumentException invalidLine(IOException e) {
+                return new IllegalArgumentException("Invalid POS in line " + posDtos.getCurrentLocation().getLineNr()
+                        + " of the request body: " + (e instanceof JacksonException jsonException
+                        ? jsonException.getOriginalMessage() : e.getMessage()), e);
+            }
+        };
+    }
+
+    /**
+     * Writes a single value followed by a line break, wrapping I/O errors so that it can be used in lambdas.
+     *
+     * @param output the stream to write to
+     * @param writer the writer used to serialize the value
+     * @param value the value to serialize
+     */
+    private static void writeLine(OutputStream output, ObjectWriter writer, Object value) {
+        try {
+            output.write(writer.writeValueAsBytes(value));
+            output.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes a single value to a JSON generator, wrapping I/O errors so that it can be used in lambdas.
+     *
+     * @param generator the generator to write to
+     * @param writer the writer used to serialize the value
+     * @param value the value to serialize
+     */
+    private static void writeValue(JsonGenerator generator, ObjectWriter writer, Object value) {
+        try {
+            writer.writeValue(generator, value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     /**
      * Builds the location URI for a newly created resource.
      * @param resourceId the ID of the created resource
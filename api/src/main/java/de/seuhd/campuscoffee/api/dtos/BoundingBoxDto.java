@@ -0,0 +1,15 @@
+package de.seuhd.campuscoffee.api.dtos;
+
+import lombok.Builder;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * DTO record for a rectangular area given by WGS 84 coordinates.
+ */
+@Builder(toBuilder = true)
+public record BoundingBoxDto(
+        @NonNull Double minLatitude,
+        @NonNull Double minLongitude,
+        @NonNull Double maxLatitude,
+        @NonNull Double maxLongitude
+) {}
@@ -0,0 +1,13 @@
+package de.seuhd.campuscoffee.api.dtos;
+
+import lombok.Builder;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * DTO record for a POS found by a nearby search.
+ */
+@Builder(toBuilder = true)
+public record NearbyPosDto(
+        @NonNull PosDto pos,
+        double distance // in meters
+) {}
@@ -0,0 +1,27 @@
+package de.seuhd.campuscoffee.api.dtos;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import de.seuhd.campuscoffee.domain.model.OsmImportJobStatus;
+import lombok.Builder;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO record for the state and progress of an OSM import job.
+ */
+@Builder(toBuilder = true)
+@JsonInclude(JsonInclude.Include.NON_NULL) // excludes null fields from JSON
+public record OsmImportJobDto(
+        @NonNull Long id,
+        @NonNull LocalDateTime createdAt,
+        @NonNull LocalDateTime updatedAt,
+        @NonNull OsmImportJobStatus status,
+        @Nullable BoundingBoxDto boundingBox, // is only set for bounding box jobs
+        int totalCount, // 0 for bounding box jobs until the nodes in the area are known
+        int processedCount,
+        int importedCount,
+        int failedCount,
+        @Nullable String message // is only set if the job failed
+) {}
@@ -0,0 +1,15 @@
+package de.seuhd.campuscoffee.api.dtos;
+
+import lombok.Builder;
+import org.jspecify.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * DTO record for submitting an OSM import job; exactly one of the fields must be set.
+ */
+@Builder(toBuilder = true)
+public record OsmImportJobRequestDto(
+        @Nullable List<Long> nodeIds, // the OSM nodes to import
+        @Nullable BoundingBoxDto boundingBox // the area to import all POS nodes from
+) {}
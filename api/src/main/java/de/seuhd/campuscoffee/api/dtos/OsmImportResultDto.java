@@ -0,0 +1,19 @@
+package de.seuhd.campuscoffee.api.dtos;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import de.seuhd.campuscoffee.domain.model.OsmImportStatus;
+import lombok.Builder;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * DTO record for the outcome of importing a single OpenStreetMap node.
+ */
+@Builder(toBuilder = true)
+@JsonInclude(JsonInclude.Include.NON_NULL) // excludes null fields from JSON
+public record OsmImportResultDto(
+        @NonNull Long nodeId,
+        @NonNull OsmImportStatus status,
+        @Nullable PosDto pos, // is only set if the import succeeded
+        @Nullable String message // is only set if the import failed
+) {}
@@ -0,0 +1,19 @@
+package de.seuhd.campuscoffee.api.dtos;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import de.seuhd.campuscoffee.domain.model.PosBatchStatus;
+import lombok.Builder;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * DTO record for the outcome of creating or updating a single POS as part of a batch.
+ */
+@Builder(toBuilder = true)
+@JsonInclude(JsonInclude.Include.NON_NULL) // excludes null fields from JSON
+public record PosBatchResultDto(
+        int index, // position of the POS in the request body
+        @NonNull PosBatchStatus status,
+        @Nullable PosDto pos, // is only set if the operation succeeded
+        @Nullable String message // is only set if the operation failed
+) {}
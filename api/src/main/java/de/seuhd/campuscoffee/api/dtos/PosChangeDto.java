@@ -0,0 +1,22 @@
+package de.seuhd.campuscoffee.api.dtos;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import de.seuhd.campuscoffee.domain.model.PosChangeType;
+import lombok.Builder;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO record for a single change of the POS catalog.
+ */
+@Builder(toBuilder = true)
+@JsonInclude(JsonInclude.Include.NON_NULL) // excludes null fields from JSON
+public record PosChangeDto(
+        long sequence, // position of the change in the change feed
+        @NonNull PosChangeType type,
+        @Nullable Long posId, // is not set if all POS have been cleared
+        @Nullable PosDto pos, // is only set for created and updated POS
+        @NonNull LocalDateTime occurredAt
+) {}
@@ -0,0 +1,16 @@
+package de.seuhd.campuscoffee.api.dtos;
+
+import lombok.Builder;
+import org.jspecify.annotations.NonNull;
+
+import java.util.List;
+
+/**
+ * DTO record for the changes of the POS catalog returned by long polling.
+ */
+@Builder(toBuilder = true)
+public record PosChangePageDto(
+        @NonNull List<PosChangeDto> changes,
+        long lastSequence, // sequence to pass as "after" to get the next changes
+        boolean reset // true if all POS must be reloaded before resuming from lastSequence
+) {}
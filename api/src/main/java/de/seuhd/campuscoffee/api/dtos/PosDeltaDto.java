@@ -0,0 +1,18 @@
+package de.seuhd.campuscoffee.api.dtos;
+
+import lombok.Builder;
+import org.jspecify.annotations.NonNull;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO record for the changes of the POS catalog since a watermark (delta sync).
+ */
+@Builder(toBuilder = true)
+public record PosDeltaDto(
+        @NonNull List<PosDto> updated, // POS created or updated since the watermark
+        @NonNull List<Long> deletedIds, // to be removed after applying the updated POS
+        @NonNull LocalDateTime watermark, // to pass as "updatedSince" with the next request
+        boolean fullSync // true if "updated" contains all POS and all other POS must be dropped
+) {}
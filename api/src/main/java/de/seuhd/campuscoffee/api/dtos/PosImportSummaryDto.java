@@ -0,0 +1,12 @@
+package de.seuhd.campuscoffee.api.dtos;
+
+import lombok.Builder;
+
+/**
+ * DTO record for the summary of an NDJSON import of POS.
+ */
+@Builder(toBuilder = true)
+public record PosImportSummaryDto(
+        int created, // POS whose name did not exist before
+        int updated // existing POS with the same name
+) {}
@@ -0,0 +1,16 @@
+package de.seuhd.campuscoffee.api.dtos;
+
+import lombok.Builder;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * DTO record for a page of POS returned by keyset pagination.
+ */
+@Builder(toBuilder = true)
+public record PosPageDto(
+        @NonNull List<PosDto> items,
+        @Nullable Long nextAfter // ID to pass as "after" to get the next page; null if this is the last page
+) {}
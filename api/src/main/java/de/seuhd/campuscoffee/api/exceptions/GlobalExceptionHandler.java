@@ -1,24 +1,31 @@
 package de.seuhd.campuscoffee.api.exceptions;
 
 import de.seuhd.campuscoffee.domain.exceptions.*;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.time.LocalDateTime;
 
 /**
  * Global exception handler for all controllers.
  * Provides centralized exception handling and standardized error responses.
+ * Every handled exception is counted in {@code campuscoffee.api.errors}, tagged with the exception type and HTTP status.
  */
 @Slf4j
 @ControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
+    private final MeterRegistry meterRegistry;
 
     /**
      * Handles all "Not Found" exceptions from the domain layer.
@@ -30,7 +37,8 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler({
             PosNotFoundException.class,
-            OsmNodeNotFoundException.class
+            OsmNodeNotFoundException.class,
+            OsmImportJobNotFoundException.class
     })
     public ResponseEntity<ErrorResponse> handleNotFoundException(
             RuntimeException exception,
@@ -69,7 +77,8 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler({
             IllegalArgumentException.class,
-            OsmNodeMissingFieldsException.class
+            OsmNodeMissingFieldsException.class,
+            MethodArgumentTypeMismatchException.class // e.g., an unknown campus in a query parameter
     })
     public ResponseEntity<ErrorResponse> handleBadRequestException(
             RuntimeException exception,
@@ -79,6 +88,33 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(exception, HttpStatus.BAD_REQUEST, request);
     }
 
+    /**
+     * Handles failures of external services that are expected to be temporary.
+     * Returns HTTP 503 (Service Unavailable) with a {@code Retry-After} header if the retry time is known.
+     *
+     * @param exception the exception that was thrown
+     * @param request the web request
+     * @return ResponseEntity with ErrorResponse and HTTP 503
+     */
+    @ExceptionHandler({
+            OsmServiceUnavailableException.class
+    })
+    public ResponseEntity<ErrorResponse> handleServiceUnavailableException(
+            OsmServiceUnavailableException exception,
+            WebRequest request
+    ) {
+        log.warn("Service unavailable: {}", exception.getMessage());
+        ResponseEntity<ErrorResponse> response = buildErrorResponse(exception, HttpStatus.SERVICE_UNAVAILABLE, request);
+        if (exception.getRetryAfter() == null) {
+            return response;
+        }
+        // Retry-After is specified in whole seconds; round up so that clients do not retry too early
+        long retryAfterSeconds = (exception.getRetryAfter().toMillis() + 999) / 1000;
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(response.getBody());
+    }
+
     /**
      * Fallback handler for unexpected exceptions.
      * Returns HTTP 500 (Internal Server Error).
@@ -128,6 +164,11 @@ public class GlobalExceptionHandler {
             WebRequest request,
             String message
     ) {
+        meterRegistry.counter("campuscoffee.api.errors",
+                        "exception", exception.getClass().getSimpleName(),
+                        "status", String.valueOf(status.value()))
+                .increment();
+
         ErrorResponse error = ErrorResponse.builder()
                 .errorCode(exception.getClass().getSimpleName())
                 .message(message)
@@ -0,0 +1,16 @@
+package de.seuhd.campuscoffee.api.mapper;
+
+import de.seuhd.campuscoffee.api.dtos.NearbyPosDto;
+import de.seuhd.campuscoffee.domain.model.NearbyPos;
+import org.mapstruct.Mapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+
+/**
+ * MapStruct mapper for converting nearby search results from the domain model to DTOs.
+ * The nested POS is mapped using the {@link PosDtoMapper}.
+ */
+@Mapper(componentModel = "spring", uses = PosDtoMapper.class)
+@ConditionalOnMissingBean // prevent IntelliJ warning about duplicate beans
+public interface NearbyPosDtoMapper {
+    NearbyPosDto fromDomain(NearbyPos source);
+}
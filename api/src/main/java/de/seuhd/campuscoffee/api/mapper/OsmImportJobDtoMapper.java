@@ -0,0 +1,22 @@
+package de.seuhd.campuscoffee.api.mapper;
+
+import de.seuhd.campuscoffee.api.dtos.BoundingBoxDto;
+import de.seuhd.campuscoffee.api.dtos.OsmImportJobDto;
+import de.seuhd.campuscoffee.domain.model.BoundingBox;
+import de.seuhd.campuscoffee.domain.model.OsmImportJob;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+
+/**
+ * MapStruct mapper for converting OSM import jobs and bounding boxes between the domain model and DTOs.
+ * The node IDs of a job are not part of the DTO; only their number is reported.
+ */
+@Mapper(componentModel = "spring")
+@ConditionalOnMissingBean // prevent IntelliJ warning about duplicate beans
+public interface OsmImportJobDtoMapper {
+    @Mapping(target = "totalCount", expression = "java(source.nodeIds().size())")
+    OsmImportJobDto fromDomain(OsmImportJob source);
+
+    BoundingBox toDomain(BoundingBoxDto source);
+}
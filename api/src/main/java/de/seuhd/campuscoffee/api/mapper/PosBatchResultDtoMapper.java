@@ -0,0 +1,16 @@
+package de.seuhd.campuscoffee.api.mapper;
+
+import de.seuhd.campuscoffee.api.dtos.PosBatchResultDto;
+import de.seuhd.campuscoffee.domain.model.PosBatchResult;
+import org.mapstruct.Mapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+
+/**
+ * MapStruct mapper for converting POS batch results from the domain model to DTOs.
+ * The nested POS is mapped using the {@link PosDtoMapper}.
+ */
+@Mapper(componentModel = "spring", uses = PosDtoMapper.class)
+@ConditionalOnMissingBean // prevent IntelliJ warning about duplicate beans
+public interface PosBatchResultDtoMapper {
+    PosBatchResultDto fromDomain(PosBatchResult source);
+}
@@ -0,0 +1,20 @@
+package de.seuhd.campuscoffee.api.mapper;
+
+import de.seuhd.campuscoffee.api.dtos.PosChangeDto;
+import de.seuhd.campuscoffee.api.dtos.PosChangePageDto;
+import de.seuhd.campuscoffee.domain.model.PosChange;
+import de.seuhd.campuscoffee.domain.model.PosChangePage;
+import org.mapstruct.Mapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+
+/**
+ * MapStruct mapper for converting changes of the POS catalog from the domain model to DTOs.
+ * The nested POS are mapped using the {@link PosDtoMapper}.
+ */
+@Mapper(componentModel = "spring", uses = PosDtoMapper.class)
+@ConditionalOnMissingBean // prevent IntelliJ warning about duplicate beans
+public interface PosChangeDtoMapper {
+    PosChangeDto fromDomain(PosChange source);
+
+    PosChangePageDto fromDomain(PosChangePage source);
+}
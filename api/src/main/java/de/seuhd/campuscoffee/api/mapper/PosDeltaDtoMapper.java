@@ -0,0 +1,16 @@
+package de.seuhd.campuscoffee.api.mapper;
+
+import de.seuhd.campuscoffee.api.dtos.PosDeltaDto;
+import de.seuhd.campuscoffee.domain.model.PosDelta;
+import org.mapstruct.Mapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+
+/**
+ * MapStruct mapper for converting POS deltas from the domain model to DTOs.
+ * The updated POS are mapped using the {@link PosDtoMapper}.
+ */
+@Mapper(componentModel = "spring", uses = PosDtoMapper.class)
+@ConditionalOnMissingBean // prevent IntelliJ warning about duplicate beans
+public interface PosDeltaDtoMapper {
+    PosDeltaDto fromDomain(PosDelta source);
+}
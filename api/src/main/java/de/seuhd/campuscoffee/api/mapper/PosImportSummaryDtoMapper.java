@@ -0,0 +1,15 @@
+package de.seuhd.campuscoffee.api.mapper;
+
+import de.seuhd.campuscoffee.api.dtos.PosImportSummaryDto;
+import de.seuhd.campuscoffee.domain.model.PosImportSummary;
+import org.mapstruct.Mapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+
+/**
+ * MapStruct mapper for converting POS import summaries from the domain model to DTOs.
+ */
+@Mapper(componentModel = "spring")
+@ConditionalOnMissingBean // prevent IntelliJ warning about duplicate beans
+public interface PosImportSummaryDtoMapper {
+    PosImportSummaryDto fromDomain(PosImportSummary source);
+}
@@ -0,0 +1,28 @@
+package de.seuhd.campuscoffee.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the pooled HTTP client used for external API calls (see {@link RestClientConfig}).
+ *
+ * @param maxConnections           the maximum number of open connections in total
+ * @param maxConnectionsPerRoute   the maximum number of open connections per host
+ * @param connectTimeout           the timeout for establishing a connection, including the TLS handshake
+ * @param responseTimeout          the maximum time to wait for a response or between two packets of the response body
+ * @param connectionRequestTimeout the maximum time to wait for a free connection of the pool
+ * @param idleTimeout              the time after which idle connections are closed
+ * @param timeToLive               the maximum lifetime of a connection, so that DNS changes are picked up
+ */
+@ConfigurationProperties(prefix = "campus-coffee.http-client")
+public record HttpClientProperties(
+        @DefaultValue("50") int maxConnections,
+        @DefaultValue("20") int maxConnectionsPerRoute,
+        @DefaultValue("5s") Duration connectTimeout,
+        @DefaultValue("30s") Duration responseTimeout,
+        @DefaultValue("10s") Duration connectionRequestTimeout,
+        @DefaultValue("30s") Duration idleTimeout,
+        @DefaultValue("5m") Duration timeToLive
+) {}
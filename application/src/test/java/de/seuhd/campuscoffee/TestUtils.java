@@ -1,12 +1,20 @@
 package de.seuhd.campuscoffee;
 
+import de.seuhd.campuscoffee.api.dtos.NearbyPosDto;
+import de.seuhd.campuscoffee.api.dtos.PosBatchResultDto;
+import de.seuhd.campuscoffee.api.dtos.PosChangePageDto;
+import de.seuhd.campuscoffee.api.dtos.PosDeltaDto;
 import de.seuhd.campuscoffee.api.dtos.PosDto;
+import de.seuhd.campuscoffee.api.dtos.PosImportSummaryDto;
+import de.seuhd.campuscoffee.api.dtos.PosPageDto;
 import io.restassured.http.ContentType;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.utility.DockerImageName;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import static io.restassured.RestAssured.given;
@@ -44,6 +52,121 @@ public class TestUtils {
                 .toList();
     }
 
+    public static PosPageDto retrievePosPage(Long after, int limit) {
+        var request = given()
+                .contentType(ContentType.JSON)
+                .queryParam("limit", limit);
+        if (after != null) {
+            request = request.queryParam("after", after);
+        }
+        return request
+                .when()
+                .get("/api/pos")
+                .then()
+                .statusCode(200)
+                .extract().as(PosPageDto.class);
+    }
+
+    public static PosDeltaDto retrievePosDelta(LocalDateTime updatedSince) {
+        return given()
+                .queryParam("updatedSince", updatedSince.toString())
+                .when()
+                .get("/api/pos")
+                .then()
+                .statusCode(200)
+                .extract().as(PosDeltaDto.class);
+    }
+
+    public static List<PosDto> retrievePosStream() {
+        return given()
+                .when()
+                .get("/api/pos/stream")
+                .then()
+                .statusCode(200)
+                .extract().jsonPath().getList("$", PosDto.class);
+    }
+
+    public static List<PosDto> retrieveFilteredPos(Map<String, ?> filter) {
+        return given()
+                .queryParams(filter)
+                .when()
+                .get("/api/pos")
+                .then()
+                .statusCode(200)
+                .extract().jsonPath().getList("$", PosDto.class);
+    }
+
+    public static List<PosDto> searchPos(String query, int limit) {
+        return given()
+                .queryParam("q", query)
+                .queryParam("limit", limit)
+                .when()
+                .get("/api/pos/search")
+                .then()
+                .statusCode(200)
+                .extract().jsonPath().getList("$", PosDto.class);
+    }
+
+    public static String exportPos() {
+        // REST Assured accepts gzip by default and decompresses the response transparently
+        return given()
+                .when()
+                .get("/api/pos/export")
+                .then()
+                .statusCode(200)
+                .contentType("application/x-ndjson")
+                .header("Content-Encoding", "gzip")
+                .extract().asString();
+    }
+
+    public static PosImportSummaryDto importPos(String ndjson) {
+        return given()
+                .contentType("application/x-ndjson")
+                .body(ndjson)
+                .when()
+                .post("/api/pos/import")
+                .then()
+                .statusCode(200)
+                .extract().as(PosImportSummaryDto.class);
+    }
+
+    public static PosChangePageDto retrievePosChanges(Long after, int wait) {
+        var request = given()
+                .accept(ContentType.JSON)
+                .queryParam("wait", wait);
+        if (after != null) {
+            request = request.queryParam("after", after);
+        }
+        return request
+                .when()
+                .get("/api/pos/changes")
+                .then()
+                .statusCode(200)
+                .extract().as(PosChangePageDto.class);
+    }
+
+    public static List<NearbyPosDto> retrieveNearbyPos(double lat, double lon, double radius, int limit) {
+        return given()
+                .queryParam("lat", lat)
+                .queryParam("lon", lon)
+                .queryParam("radius", radius)
+                .queryParam("limit", limit)
+                .when()
+                .get("/api/pos/nearby")
+                .then()
+                .statusCode(200)
+                .extract().jsonPath().getList("$", NearbyPosDto.class);
+    }
+
+    public static String retrievePrometheusMetrics() {
+        return given()
+                .when()
+                .get("/actuator/prometheus")
+                .then()
+                .statusCode(200)
+                .extract().asString();
+    }
+
     public static PosDto retrievePosById(Long id) {
         return given()
                 .contentType(ContentType.JSON)
@@ -54,6 +177,24 @@ public class TestUtils {
                 .extract().as(PosDto.class);
     }
 
+    public static String retrieveETag(String path) {
+        return given()
+                .when()
+                .get(path)
+                .then()
+                .statusCode(200)
+                .extract().header("ETag");
+    }
+
+    public static int retrieveStatusCode(String path, String ifNoneMatch) {
+        return given()
+                .header("If-None-Match", ifNoneMatch)
+                .when()
+                .get(path)
+                .then()
+                .extract().statusCode();
+    }
+
     public static List<PosDto> createPos(List<PosDto> posList) {
         return posList.stream()
                 .map(posDto -> given()
@@ -68,6 +209,28 @@ public class TestUtils {
                 .toList();
     }
 
+    public static List<PosBatchResultDto> createPosBatch(List<PosDto> posList) {
+        return given()
+                .contentType(ContentType.JSON)
+                .body(posList)
+                .when()
+                .post("/api/pos/batch")
+                .then()
+                .statusCode(200)
+                .extract().jsonPath().getList("$", PosBatchResultDto.class);
+    }
+
+    public static List<PosBatchResultDto> updatePosBatch(List<PosDto> posList) {
+        return given()
+                .contentType(ContentType.JSON)
+                .body(posList)
+                .when()
+                .put("/api/pos/batch")
+                .then()
+                .statusCode(200)
+                .extract().jsonPath().getList("$", PosBatchResultDto.class);
+    }
+
     public static List<PosDto> updatePos(List<PosDto> posList) {
         return posList.stream()
                 .map(posDto -> given()
@@ -81,4 +244,12 @@ public class TestUtils {
                 )
                 .collect(Collectors.toList());
     }
+
+    public static void deletePos(Long id) {
+        given()
+                .when()
+                .delete("/api/pos/{id}", id)
+                .then()
+                .statusCode(204);
+    }
 }
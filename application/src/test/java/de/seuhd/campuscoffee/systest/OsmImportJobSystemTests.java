@@ -0,0 +1,46 @@
+package de.seuhd.campuscoffee.systest;
+
+import de.seuhd.campuscoffee.api.dtos.BoundingBoxDto;
+import de.seuhd.campuscoffee.api.dtos.OsmImportJobRequestDto;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * System tests for the validation of OSM import jobs (job execution requires access to the OSM API).
+ */
+public class OsmImportJobSystemTests extends AbstractSysTest {
+    private static final BoundingBoxDto HEIDELBERG = new BoundingBoxDto(49.40, 8.67, 49.42, 8.70);
+
+    @Test
+    void rejectInvalidJobs() {
+        submit(new OsmImportJobRequestDto(null, null), 400);
+        submit(new OsmImportJobRequestDto(List.of(5589879349L), HEIDELBERG), 400);
+        submit(new OsmImportJobRequestDto(List.of(), null), 400);
+        // the OSM API only accepts areas up to 0.25 square degrees
+        submit(new OsmImportJobRequestDto(null, new BoundingBoxDto(49.0, 8.0, 50.0, 9.0)), 400);
+        submit(new OsmImportJobRequestDto(null, HEIDELBERG.toBuilder().maxLatitude(49.30).build()), 400);
+    }
+
+    @Test
+    void getUnknownJob() {
+        given()
+                .when()
+                .get("/api/pos/import/jobs/{id}", Long.MAX_VALUE)
+                .then()
+                .statusCode(404);
+    }
+
+    private static void submit(OsmImportJobRequestDto request, int expectedStatusCode) {
+        given()
+                .contentType(ContentType.JSON)
+                .body(request)
+                .when()
+                .post("/api/pos/import/jobs")
+                .then()
+                .statusCode(expectedStatusCode);
+    }
+}
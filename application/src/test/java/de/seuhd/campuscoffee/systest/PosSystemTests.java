@@ -1,11 +1,30 @@
 package de.seuhd.campuscoffee.systest;
 
+import de.seuhd.campuscoffee.api.dtos.NearbyPosDto;
+import de.seuhd.campuscoffee.api.dtos.PosBatchResultDto;
+import de.seuhd.campuscoffee.api.dtos.PosChangeDto;
+import de.seuhd.campuscoffee.api.dtos.PosChangePageDto;
+import de.seuhd.campuscoffee.api.dtos.PosDeltaDto;
+import de.seuhd.campuscoffee.api.dtos.PosDto;
+import de.seuhd.campuscoffee.api.dtos.PosImportSummaryDto;
+import de.seuhd.campuscoffee.api.dtos.PosPageDto;
 import de.seuhd.campuscoffee.domain.model.Pos;
+import de.seuhd.campuscoffee.domain.model.PosBatchStatus;
+import de.seuhd.campuscoffee.domain.model.PosChangeType;
 import de.seuhd.campuscoffee.domain.tests.TestFixtures;
 import org.junit.jupiter.api.Test;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 
 import de.seuhd.campuscoffee.TestUtils;
+import static io.restassured.RestAssured.given;
 import static org.assertj.core.api.Assertions.assertThat;
 
 /**
@@ -38,6 +57,75 @@ public class PosSystemTests extends AbstractSysTest {
                 .containsExactlyInAnyOrderElementsOf(createdPosList);
     }
 
+    @Test
+    void getPosPages() {
+        List<Pos> createdPosList = TestFixtures.createPosFixtures(posService).stream()
+                .sorted(Comparator.comparing(Pos::id))
+                .toList();
+
+        PosPageDto firstPage = TestUtils.retrievePosPage(null, 3);
+        assertThat(firstPage.items())
+                .extracting("id")
+                .containsExactlyElementsOf(createdPosList.subList(0, 3).stream().map(Pos::id).toList());
+        assertThat(firstPage.nextAfter()).isEqualTo(createdPosList.get(2).id());
+
+        PosPageDto secondPage = TestUtils.retrievePosPage(firstPage.nextAfter(), 3);
+        assertThat(secondPage.items())
+                .extracting("id")
+                .containsExactly(createdPosList.get(3).id());
+        assertThat(secondPage.nextAfter()).isNull();
+
+        // without a limit, the position would be ignored and all POS returned
+        given()
+                .queryParam("after", firstPage.nextAfter())
+                .when()
+                .get("/api/pos")
+                .then()
+                .statusCode(400);
+    }
+
+    @Test
+    void getPosDelta() {
+        List<Pos> createdPosList = TestFixtures.createPosFixtures(posService);
+
+        // deletions before the tombstone retention period are unknown, so all POS are returned
+        PosDeltaDto fullSync = TestUtils.retrievePosDelta(LocalDateTime.of(2000, 1, 1, 0, 0));
+        assertThat(fullSync.fullSync()).isTrue();
+        assertThat(fullSync.updated()).hasSize(createdPosList.size());
+
+        Pos updatedPos = posService.upsert(createdPosList.getFirst().toBuilder().description("Updated description").build());
+        posService.delete(createdPosList.getLast().id());
+
+        PosDeltaDto delta = TestUtils.retrievePosDelta(updatedPos.updatedAt().minusNanos(1000));
+        assertThat(delta.fullSync()).isFalse();
+        assertThat(delta.updated()).extracting(PosDto::id).containsExactly(updatedPos.id());
+        assertThat(delta.deletedIds()).containsExactly(createdPosList.getLast().id());
+        assertThat(delta.watermark()).isBefore(LocalDateTime.now(ZoneOffset.UTC));
+
+        // a delta contains all changes since the watermark, so it cannot be paged
+        given()
+                .queryParam("updatedSince", delta.watermark().toString())
+                .queryParam("limit", 10)
+                .when()
+                .get("/api/pos")
+                .then()
+                .statusCode(400);
+    }
+
+    @Test
+    void streamAllCreatedPos() {
+        List<Pos> createdPosList = TestFixtures.createPosFixtures(posService);
+
+        List<Pos> streamedPos = TestUtils.retrievePosStream()
+                .stream()
+                .map(posDtoMapper::toDomain)
+                .toList();
+
+        assertThat(streamedPos)
+                .usingRecursiveFieldByFieldElementComparatorIgnoringFields("createdAt", "updatedAt")
+                .containsExactlyInAnyOrderElementsOf(createdPosList);
+    }
+
     @Test
     void getPosById() {
         List<Pos> createdPosList = TestFixtures.createPosFixtures(posService);
@@ -79,4 +167,238 @@ public class PosSystemTests extends AbstractSysTest {
                 .ignoringFields("createdAt", "updatedAt")
                 .isEqualTo(posToUpdate);
     }
-}
\ No newline at end of file
+
+    @Test
+    void createPosWithInvalidCoordinates() {
+        PosDto posToCreate = posDtoMapper.fromDomain(TestFixtures.getPosFixturesForInsertion().getFirst());
+
+        for (PosDto invalidPos : List.of(
+                posToCreate.toBuilder().latitude(100.0).build(),
+                posToCreate.toBuilder().longitude(null).build())) {
+            given()
+                    .contentType("application/json")
+                    .body(invalidPos)
+                    .when()
+                    .post("/api/pos")
+                    .then()
+                    .statusCode(400);
+        }
+        assertThat(TestUtils.retrievePos()).isEmpty();
+    }
+
+    @Test
+    void updateMissingPos() {
+        List<Pos> createdPosList = TestFixtures.createPosFixtures(posService);
+        // the name of another POS must not hide that the POS to update does not exist
+        PosDto missingPos = posDtoMapper.fromDomain(createdPosList.getFirst()).toBuilder()
+                .id(createdPosList.getLast().id() + 1000)
+                .build();
+
+        given()
+                .contentType("application/json")
+                .body(missingPos)
+                .when()
+                .put("/api/pos/{id}", missingPos.id())
+                .then()
+                .statusCode(404);
+        assertThat(TestUtils.retrievePos()).hasSize(createdPosList.size());
+    }
+
+    @Test
+    void deletePos() {
+        List<Pos> createdPosList = TestFixtures.createPosFixtures(posService);
+        Long deletedPosId = createdPosList.getFirst().id();
+
+        TestUtils.deletePos(deletedPosId);
+
+        assertThat(TestUtils.retrievePos())
+                .hasSize(createdPosList.size() - 1)
+                .extracting(PosDto::id)
+                .doesNotContain(deletedPosId);
+        given().when().delete("/api/pos/{id}", deletedPosId).then().statusCode(404);
+    }
+
+    @Test
+    void getPosChanges() {
+        long start = TestUtils.retrievePosChanges(null, 0).lastSequence();
+        List<Pos> createdPosList = TestFixtures.createPosFixtures(posService);
+        Pos posToUpdate = createdPosList.getFirst();
+        posService.upsert(posToUpdate.toBuilder().description("Updated description").build());
+        posService.delete(createdPosList.getLast().id());
+
+        PosChangePageDto changes = TestUtils.retrievePosChanges(start, 0);
+
+        assertThat(changes.reset()).isFalse();
+        assertThat(changes.lastSequence()).isEqualTo(start + createdPosList.size() + 2);
+        assertThat(changes.changes()).extracting(PosChangeDto::sequence)
+                .containsExactlyElementsOf(LongStream.rangeClosed(start + 1, changes.lastSequence()).boxed().toList());
+        assertThat(changes.changes().subList(0, createdPosList.size()))
+                .allSatisfy(change -> assertThat(change.type()).isEqualTo(PosChangeType.CREATED));
+        assertThat(changes.changes().get(createdPosList.size()).pos().description()).isEqualTo("Updated description");
+        assertThat(changes.changes().getLast().type()).isEqualTo(PosChangeType.DELETED);
+        assertThat(changes.changes().getLast().posId()).isEqualTo(createdPosList.getLast().id());
+
+        // a long poll returns as soon as the next change is published
+        CompletableFuture<PosChangePageDto> poll =
+                CompletableFuture.supplyAsync(() -> TestUtils.retrievePosChanges(changes.lastSequence(), 30));
+        posService.upsert(posToUpdate.toBuilder().description("Updated again").build());
+
+        assertThat(poll.join().changes()).extracting(PosChangeDto::type).containsExactly(PosChangeType.UPDATED);
+    }
+
+    @Test
+    void createAndUpdatePosBatch() {
+        List<PosDto> posToCreate = TestFixtures.getPosFixturesForInsertion().stream()
+                .map(posDtoMapper::fromDomain)
+                .toList();
+        // the last POS reuses the name of the first one and fails without affecting the others
+        List<PosDto> batch = new ArrayList<>(posToCreate);
+        batch.add(posToCreate.getFirst().toBuilder().description("Duplicate").build());
+        // POS to create must not have an ID
+        batch.add(posToCreate.getFirst().toBuilder().id(1L).name("With ID").build());
+
+        List<PosBatchResultDto> createResults = TestUtils.createPosBatch(batch);
+
+        assertThat(createResults).extracting(PosBatchResultDto::index)
+                .containsExactlyElementsOf(IntStream.range(0, batch.size()).boxed().toList());
+        assertThat(createResults.subList(0, posToCreate.size()))
+                .allSatisfy(result -> assertThat(result.status()).isEqualTo(PosBatchStatus.CREATED));
+        assertThat(createResults.get(posToCreate.size()).status()).isEqualTo(PosBatchStatus.DUPLICATE_NAME);
+        assertThat(createResults.get(posToCreate.size()).pos()).isNull();
+        assertThat(createResults.getLast().status()).isEqualTo(PosBatchStatus.INVALID);
+        assertThat(TestUtils.retrievePos()).hasSize(posToCreate.size());
+
+        PosDto createdPos = createResults.getFirst().pos();
+        List<PosBatchResultDto> updateResults = TestUtils.updatePosBatch(List.of(
+                createdPos.toBuilder().description("Updated description").build(),
+                createdPos.toBuilder().id(null).name("Without ID").build(),
+                createdPos.toBuilder().id(createdPos.id() + 1000).name("Unknown").build()));
+
+        assertThat(updateResults).extracting(PosBatchResultDto::status)
+                .containsExactly(PosBatchStatus.UPDATED, PosBatchStatus.INVALID, PosBatchStatus.NOT_FOUND);
+        assertThat(updateResults).extracting(PosBatchResultDto::index).containsExactly(0, 1, 2);
+        assertThat(TestUtils.retrievePosById(createdPos.id()).description()).isEqualTo("Updated description");
+    }
+
+    @Test
+    void exportAndImportPos() {
+        List<Pos> createdPosList = TestFixtures.createPosFixtures(posService);
+
+        String export = TestUtils.exportPos();
+        assertThat(export.lines()).hasSize(createdPosList.size());
+
+        // POS are identified by name, so importing the export again updates all of them
+        assertThat(TestUtils.importPos(export)).isEqualTo(new PosImportSummaryDto(0, createdPosList.size()));
+
+        posService.clear();
+        assertThat(TestUtils.importPos(export)).isEqualTo(new PosImportSummaryDto(createdPosList.size(), 0));
+
+        List<Pos> importedPos = TestUtils.retrievePos().stream()
+                .map(posDtoMapper::toDomain)
+                .toList();
+        assertThat(importedPos)
+                .usingRecursiveFieldByFieldElementComparatorIgnoringFields("id", "createdAt", "updatedAt")
+                .containsExactlyInAnyOrderElementsOf(createdPosList);
+    }
+
+    @Test
+    void importPosWithInvalidLine() {
+        List<Pos> createdPosList = TestFixtures.createPosFixtures(posService);
+        String export = TestUtils.exportPos();
+        posService.clear();
+
+        // all POS are in the same chunk, so none of them is persisted before the invalid line is read
+        String message = given()
+                .contentType("application/x-ndjson")
+                .body(export + "{\"name\": \n")
+                .when()
+                .post("/api/pos/import")
+                .then()
+                .statusCode(400)
+                .extract().jsonPath().getString("message");
+
+        assertThat(message).contains("The first 0 POS of the stream were imported");
+
+        assertThat(TestUtils.retrievePos()).isEmpty();
+        assertThat(TestUtils.importPos(export)).isEqualTo(new PosImportSummaryDto(createdPosList.size(), 0));
+    }
+
+    @Test
+    void conditionalGet() {
+        Pos pos = TestFixtures.createPosFixtures(posService).getFirst();
+        String posPath = "/api/pos/" + pos.id();
+        String posETag = TestUtils.retrieveETag(posPath);
+        String listETag = TestUtils.retrieveETag("/api/pos");
+
+        assertThat(TestUtils.retrieveStatusCode(posPath, posETag)).isEqualTo(304);
+        assertThat(TestUtils.retrieveStatusCode("/api/pos", listETag)).isEqualTo(304);
+
+        TestUtils.updatePos(List.of(posDtoMapper.fromDomain(pos.toBuilder().description("Updated description").build())));
+
+        assertThat(TestUtils.retrieveStatusCode(posPath, posETag)).isEqualTo(200);
+        assertThat(TestUtils.retrieveStatusCode("/api/pos", listETag)).isEqualTo(200);
+    }
+
+    @Test
+    void getFilteredPos() {
+        List<Pos> createdPosList = TestFixtures.createPosFixtures(posService);
+
+        assertThat(TestUtils.retrieveFilteredPos(Map.of("campus", "INF")))
+                .extracting(PosDto::id)
+                .containsExactly(createdPosList.get(1).id(), createdPosList.get(2).id());
+        assertThat(TestUtils.retrieveFilteredPos(Map.of("campus", "INF", "type", "BAKERY")))
+                .extracting(PosDto::id)
+                .containsExactly(createdPosList.get(1).id());
+        assertThat(TestUtils.retrieveFilteredPos(Map.of("campus", "BERGHEIM", "type", "BAKERY"))).isEmpty();
+
+        given()
+                .queryParam("campus", "UNKNOWN")
+                .when()
+                .get("/api/pos")
+                .then()
+                .statusCode(400);
+    }
+
+    @Test
+    void searchPos() {
+        List<Pos> createdPosList = TestFixtures.createPosFixtures(posService);
+
+        // prefix of a word in the name
+        assertThat(TestUtils.searchPos("schmelz", 10))
+                .extracting(PosDto::id)
+                .containsExactly(createdPosList.getFirst().id());
+        // typo in the name
+        assertThat(TestUtils.searchPos("Botnik", 10))
+                .extracting(PosDto::id)
+                .containsExactly(createdPosList.get(2).id());
+    }
+
+    @Test
+    void getNearbyPos() {
+        List<Pos> createdPosList = TestFixtures.createPosFixtures(posService);
+        Pos botanik = createdPosList.get(2);
+        Pos goertz = createdPosList.get(1);
+
+        // the POS in the old town is about 2.5 km away, the POS without coordinates is never returned
+        List<NearbyPosDto> nearbyPos = TestUtils.retrieveNearbyPos(botanik.latitude(), botanik.longitude(), 2000, 10);
+
+        assertThat(nearbyPos)
+                .extracting(nearby -> nearby.pos().id())
+                .containsExactly(botanik.id(), goertz.id());
+        assertThat(nearbyPos.getFirst().distance()).isZero();
+    }
+
+    @Test
+    void exposeMetrics() {
+        TestFixtures.createPosFixtures(posService);
+        TestUtils.retrievePos();
+
+        String metrics = TestUtils.retrievePrometheusMetrics();
+
+        assertThat(metrics)
+                .contains("http_server_requests_seconds_count{")
+                .contains("campuscoffee_pos_service_seconds_count{")
+                .contains("campuscoffee_pos_data_seconds_count{")
+                .contains("campuscoffee_cache_pos_size");
+    }
+}
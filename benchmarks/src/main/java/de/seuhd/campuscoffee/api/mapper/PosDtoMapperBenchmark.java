@@ -0,0 +1,47 @@
+package de.seuhd.campuscoffee.api.mapper;
+
+import de.seuhd.campuscoffee.api.dtos.PosDto;
+import de.seuhd.campuscoffee.domain.model.Pos;
+import de.seuhd.campuscoffee.domain.tests.TestFixtures;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the conversions of the generated {@link PosDtoMapper} that are executed for every POS
+ * received or returned by the REST API.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PosDtoMapperBenchmark {
+    private final PosDtoMapper posDtoMapper = new PosDtoMapperImpl();
+
+    private Pos pos;
+    private PosDto posDto;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        pos = TestFixtures.getPosList().getFirst().toBuilder()
+                .id(1L)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        posDto = posDtoMapper.fromDomain(pos);
+    }
+
+    @Benchmark
+    public PosDto fromDomain() {
+        return posDtoMapper.fromDomain(pos);
+    }
+
+    @Benchmark
+    public Pos toDomain() {
+        return posDtoMapper.toDomain(posDto);
+    }
+}
@@ -0,0 +1,67 @@
+package de.seuhd.campuscoffee.data.impl;
+
+import de.seuhd.campuscoffee.domain.model.OsmNode;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+import org.xml.sax.InputSource;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Baseline for {@link OsmXmlParserBenchmark}: the DOM-based parsing that {@link OsmXmlParser} replaced.
+ * The response is parsed from a string into a full DOM tree, and all tags of a node are copied into a map.
+ */
+final class DomOsmXmlParser {
+    private DomOsmXmlParser() {}
+
+    static List<OsmNode> parse(String xmlResponse) throws Exception {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        DocumentBuilder builder = factory.newDocumentBuilder();
+        Document doc = builder.parse(new InputSource(new StringReader(xmlResponse)));
+        doc.getDocumentElement().normalize();
+
+        NodeList nodeList = doc.getElementsByTagName("node");
+        List<OsmNode> nodes = new ArrayList<>(nodeList.getLength());
+        for (int i = 0; i < nodeList.getLength(); i++) {
+            Element nodeElement = (Element) nodeList.item(i);
+            Map<String, String> tags = extractTags(nodeElement);
+            nodes.add(OsmNode.builder()
+                    .nodeId(Long.parseLong(nodeElement.getAttribute("id")))
+                    .latitude(Double.parseDouble(nodeElement.getAttribute("lat")))
+                    .longitude(Double.parseDouble(nodeElement.getAttribute("lon")))
+                    .name(tags.get("name"))
+                    .amenity(tags.get("amenity"))
+                    .cuisine(tags.get("cuisine"))
+                    .street(tags.get("addr:street"))
+                    .houseNumber(tags.get("addr:housenumber"))
+                    .postcode(tags.get("addr:postcode"))
+                    .city(tags.get("addr:city"))
+                    .website(tags.get("website"))
+                    .phone(tags.get("phone"))
+                    .openingHours(tags.get("opening_hours"))
+                    .build());
+        }
+        return nodes;
+    }
+
+    private static Map<String, String> extractTags(Element nodeElement) {
+        Map<String, String> tags = new HashMap<>();
+        NodeList tagList = nodeElement.getElementsByTagName("tag");
+        for (int i = 0; i < tagList.getLength(); i++) {
+            Element tagElement = (Element) tagList.item(i);
+            String key = tagElement.getAttribute("k");
+            String value = tagElement.getAttribute("v");
+            if (!key.isEmpty() && !value.isEmpty()) {
+                tags.put(key, value);
+            }
+        }
+        return tags;
+    }
+}
@@ -0,0 +1,79 @@
+package de.seuhd.campuscoffee.data.impl;
+
+import de.seuhd.campuscoffee.domain.model.OsmNode;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the streaming {@link OsmXmlParser} with the former DOM-based parsing ({@link DomOsmXmlParser})
+ * for a single-node response and a large multi-node response.
+ * Both benchmarks start from the raw response bytes; the DOM baseline includes decoding them into a string,
+ * as the former implementation received the response body as a string.
+ * Run with {@code -Djmh.args="OsmXmlParserBenchmark -prof gc"} to also compare allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OsmXmlParserBenchmark {
+    @Param({"1", "250"})
+    private int nodeCount;
+
+    private byte[] response;
+
+    @Setup
+    public void setUp() {
+        response = osmXml(nodeCount).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public List<OsmNode> stax() throws Exception {
+        return OsmXmlParser.parse(new ByteArrayInputStream(response));
+    }
+
+    @Benchmark
+    public List<OsmNode> dom() throws Exception {
+        return DomOsmXmlParser.parse(new String(response, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Creates an OSM API response with the given number of nodes that resembles real cafe nodes,
+     * including tags that are not part of the {@link OsmNode} model.
+     *
+     * @param nodeCount the number of nodes
+     * @return the XML response
+     */
+    static String osmXml(int nodeCount) {
+        StringBuilder xml = new StringBuilder("""
+                <?xml version="1.0" encoding="UTF-8"?>
+                <osm version="0.6" generator="openstreetmap-cgimap" copyright="OpenStreetMap and contributors">
+                """);
+        for (int i = 0; i < nodeCount; i++) {
+            long nodeId = 5589879349L + i;
+            xml.append("""
+                     <node id="%d" visible="true" version="7" changeset="151234567" timestamp="2024-05-01T10:00:00Z" user="mapper" uid="12345" lat="49.4134" lon="8.6889">
+                      <tag k="addr:city" v="Heidelberg"/>
+                      <tag k="addr:country" v="DE"/>
+                      <tag k="addr:housenumber" v="%d"/>
+                      <tag k="addr:postcode" v="69117"/>
+                      <tag k="addr:street" v="Untere Straße"/>
+                      <tag k="amenity" v="cafe"/>
+                      <tag k="check_date" v="2024-04-30"/>
+                      <tag k="cuisine" v="coffee_shop"/>
+                      <tag k="name" v="Rada Coffee &amp; Rösterei %d"/>
+                      <tag k="opening_hours" v="Mo-Fr 08:00-18:00; Sa 09:00-18:00"/>
+                      <tag k="outdoor_seating" v="yes"/>
+                      <tag k="website" v="https://example.org/"/>
+                      <tag k="wheelchair" v="limited"/>
+                     </node>
+                    """.formatted(nodeId, i + 1, i));
+        }
+        return xml.append("</osm>\n").toString();
+    }
+}
@@ -0,0 +1,54 @@
+package de.seuhd.campuscoffee.data.mapper;
+
+import de.seuhd.campuscoffee.data.persistence.AddressEntity;
+import de.seuhd.campuscoffee.data.persistence.PosEntity;
+import de.seuhd.campuscoffee.domain.model.Pos;
+import de.seuhd.campuscoffee.domain.tests.TestFixtures;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the conversions of the generated {@link PosEntityMapper} that are executed for every POS read or written
+ * through JPA, including the house number splitting that runs as part of {@link PosEntityMapper#toEntity(Pos)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PosEntityMapperBenchmark {
+    private final PosEntityMapper posEntityMapper = new PosEntityMapperImpl();
+
+    private Pos pos;
+    private PosEntity posEntity;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        pos = TestFixtures.getPosList().getFirst().toBuilder()
+                .id(1L)
+                .createdAt(now)
+                .updatedAt(now)
+                .houseNumber("21a")
+                .build();
+        posEntity = posEntityMapper.toEntity(pos);
+    }
+
+    @Benchmark
+    public Pos fromEntity() {
+        return posEntityMapper.fromEntity(posEntity);
+    }
+
+    @Benchmark
+    public PosEntity toEntity() {
+        return posEntityMapper.toEntity(pos);
+    }
+
+    @Benchmark
+    public AddressEntity splitHouseNumber() {
+        return posEntityMapper.splitHouseNumber(pos, new AddressEntity());
+    }
+}
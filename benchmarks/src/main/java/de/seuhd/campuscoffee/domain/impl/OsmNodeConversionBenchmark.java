@@ -0,0 +1,57 @@
+package de.seuhd.campuscoffee.domain.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.seuhd.campuscoffee.domain.config.CampusProperties;
+import de.seuhd.campuscoffee.domain.model.CampusType;
+import de.seuhd.campuscoffee.domain.model.OsmNode;
+import de.seuhd.campuscoffee.domain.model.Pos;
+import de.seuhd.campuscoffee.domain.ports.CampusResolver;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the conversion of an OSM node to a POS ({@link OsmNodeConverter#convert(OsmNode)}),
+ * which runs for every node of an OSM import, and the campus lookup that is part of it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OsmNodeConversionBenchmark {
+    private final OsmNode osmNode = OsmNode.builder()
+            .nodeId(5589879349L)
+            .version(7L)
+            .latitude(49.4108)
+            .longitude(8.7054)
+            .name("Rada Coffee & Rösterei")
+            .amenity("cafe")
+            .cuisine("coffee_shop")
+            .street("Untere Straße")
+            .houseNumber("21")
+            .postcode("69117")
+            .city("Heidelberg")
+            .website("https://example.org/")
+            .openingHours("Mo-Fr 08:00-18:00; Sa 09:00-18:00")
+            .build();
+
+    private final CampusProperties campusProperties =
+            new CampusProperties("classpath:campuses.geojson", 0.0005, CampusType.ALTSTADT);
+    private final CampusResolver campusResolver =
+            new GeoJsonCampusResolver(campusProperties, new DefaultResourceLoader(), new ObjectMapper());
+    private final OsmNodeConverter osmNodeConverter = new OsmNodeConverter(campusResolver, campusProperties);
+
+    @Benchmark
+    public Pos convertOsmNodeToPos() {
+        return osmNodeConverter.convert(osmNode);
+    }
+
+    @Benchmark
+    public Optional<CampusType> resolveCampus() {
+        return campusResolver.resolve(osmNode.latitude(), osmNode.longitude());
+    }
+}
@@ -0,0 +1,55 @@
+package de.seuhd.campuscoffee.domain.impl;
+
+import de.seuhd.campuscoffee.domain.model.Pos;
+import de.seuhd.campuscoffee.domain.tests.TestFixtures;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures search queries on the {@link PosSearchIndex} for POS with random names built from a small
+ * vocabulary, so that common trigrams have long posting lists.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PosSearchIndexBenchmark {
+    private static final String[] WORDS = {
+            "Café", "Bäckerei", "Mensa", "Botanik", "Schmelzpunkt", "Marstall", "Kaffee", "Bistro",
+            "Altstadt", "Bergheim", "Neuenheim", "Campus", "Espresso", "Waffel", "Brezel", "Bar"
+    };
+
+    @Param({"1000", "100000"})
+    private int posCount;
+
+    @Param({"bot", "Kaffe Bistr"})
+    private String query;
+
+    private final PosSearchIndex index = new PosSearchIndex();
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        Pos template = TestFixtures.getPosList().getFirst();
+        List<Pos> posList = new ArrayList<>(posCount);
+        for (long id = 1; id <= posCount; id++) {
+            posList.add(template.toBuilder()
+                    .id(id)
+                    .name(WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + id)
+                    .description(WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)])
+                    .build());
+        }
+        index.rebuild(posList::forEach);
+    }
+
+    @Benchmark
+    public List<Pos> search() {
+        return index.search(query, 10);
+    }
+}
@@ -0,0 +1,54 @@
+package de.seuhd.campuscoffee.domain.impl;
+
+import de.seuhd.campuscoffee.domain.model.NearbyPos;
+import de.seuhd.campuscoffee.domain.model.Pos;
+import de.seuhd.campuscoffee.domain.tests.TestFixtures;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures nearest-neighbor queries on the {@link PosSpatialIndex} for POS randomly distributed
+ * over an area of about 45 x 45 km.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PosSpatialIndexBenchmark {
+    private static final double LATITUDE = 49.4122;
+    private static final double LONGITUDE = 8.6843;
+
+    @Param({"1000", "100000"})
+    private int posCount;
+
+    @Param({"1000", "10000"})
+    private double radius;
+
+    private final PosSpatialIndex index = new PosSpatialIndex();
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        Pos template = TestFixtures.getPosList().getFirst();
+        List<Pos> posList = new ArrayList<>(posCount);
+        for (long id = 1; id <= posCount; id++) {
+            posList.add(template.toBuilder()
+                    .id(id)
+                    .latitude(LATITUDE + (random.nextDouble() - 0.5) * 0.4)
+                    .longitude(LONGITUDE + (random.nextDouble() - 0.5) * 0.6)
+                    .build());
+        }
+        index.rebuild(posList::forEach);
+    }
+
+    @Benchmark
+    public List<NearbyPos> findNearest() {
+        return index.findNearest(LATITUDE, LONGITUDE, radius, 10);
+    }
+}
@@ -0,0 +1,21 @@
+package de.seuhd.campuscoffee.data.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuration properties for the persistent cache of fetched OpenStreetMap nodes.
+ *
+ * @param enabled   whether fetched nodes are cached on disk
+ * @param directory the directory that stores one file per cached node
+ * @param ttl       the time after which a cached node has to be revalidated with the OSM API
+ */
+@ConfigurationProperties(prefix = "campus-coffee.osm.cache")
+public record OsmCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("osm-cache") Path directory,
+        @DefaultValue("24h") Duration ttl
+) {}
@@ -0,0 +1,29 @@
+package de.seuhd.campuscoffee.data.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the rate limiting, retries, and circuit breaker of requests to the OSM API.
+ *
+ * @param requestsPerSecond the sustained number of requests per second sent to the OSM API
+ * @param burst             the number of requests that may be sent at once after a period without requests
+ * @param maxRetries        the number of retries of a request that failed with 429 (Too Many Requests),
+ *                          a server error, or an I/O error
+ * @param initialBackoff    the delay before the first retry; doubled for every further retry
+ * @param maxBackoff        the maximum delay before a retry; longer {@code Retry-After} delays are not waited for
+ * @param failureThreshold  the number of consecutive failed requests after which the circuit breaker opens
+ * @param openDuration      the time the circuit breaker stays open before a trial request is sent
+ */
+@ConfigurationProperties(prefix = "campus-coffee.osm.client")
+public record OsmClientProperties(
+        @DefaultValue("2") double requestsPerSecond,
+        @DefaultValue("4") int burst,
+        @DefaultValue("3") int maxRetries,
+        @DefaultValue("500ms") Duration initialBackoff,
+        @DefaultValue("10s") Duration maxBackoff,
+        @DefaultValue("5") int failureThreshold,
+        @DefaultValue("30s") Duration openDuration
+) {}
@@ -0,0 +1,237 @@
+package de.seuhd.campuscoffee.data.impl;
+
+import de.seuhd.campuscoffee.data.config.OsmClientProperties;
+import de.seuhd.campuscoffee.domain.exceptions.OsmServiceUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Guards all requests to the OSM API with a rate limiter, retries, and a circuit breaker.
+ * <ul>
+ *   <li>A token bucket limits the request rate to the configured fair-use rate (see {@link OsmClientProperties}).
+ *   Callers reserve a token and wait outside of any lock until it becomes available.</li>
+ *   <li>Requests that fail with 429 (Too Many Requests), a server error, or an I/O error are retried with
+ *   exponential backoff and jitter. A {@code Retry-After} header of the API is never undercut.</li>
+ *   <li>After the configured number of consecutive failures, or if the API asks to back off for longer than
+ *   the maximum backoff, the circuit breaker opens and requests fail immediately until a single trial request
+ *   succeeds again.</li>
+ * </ul>
+ * Retries are counted in {@code campuscoffee.osm.retries}, requests rejected by the open circuit breaker
+ * in {@code campuscoffee.osm.rejected}.
+ */
+@Slf4j
+@Component
+class OsmApiGuard {
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final OsmClientProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    // token bucket; the number of tokens becomes negative if callers have reserved tokens ahead of time
+    private final Object bucketLock = new Object();
+    private double tokens;
+    private long lastRefillNanos;
+
+    // circuit breaker; closed if openUntilNanos is null
+    private final Object circuitLock = new Object();
+    private int consecutiveFailures;
+    private @Nullable Long openUntilNanos;
+    private boolean trialRequestPending;
+
+    OsmApiGuard(@NonNull OsmClientProperties properties, @NonNull MeterRegistry meterRegistry) {
+        if (properties.requestsPerSecond() <= 0 || properties.burst() < 1) {
+            throw new IllegalArgumentException("The OSM request rate and burst must be positive.");
+        }
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.tokens = properties.burst();
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * Executes a request to the OSM API.
+     *
+     * @param request the request; errors are reported as exceptions of the {@code RestTemplate}
+     * @return the result of the request
+     * @throws OsmServiceUnavailableException if the circuit breaker is open or the request still fails after all retries
+     * @throws RuntimeException               any other exception of the request (e.g., 404), without retries
+     */
+    <T> T execute(@NonNull Supplier<T> request) throws OsmServiceUnavailableException {
+        for (int attempt = 0; ; attempt++) {
+            acquirePermission();
+            try {
+                acquireToken();
+            } catch (OsmServiceUnavailableException e) {
+                synchronized (circuitLock) {
+                    trialRequestPending = false;
+                }
+                throw e;
+            }
+
+            RuntimeException failure;
+            Duration retryAfter = null;
+            try {
+                T result = request.get();
+                onSuccess();
+                return result;
+            } catch (HttpStatusCodeException e) {
+                if (!isRetryable(e)) {
+                    // the API is available, the request itself is invalid
+                    onSuccess();
+                    throw e;
+                }
+                failure = e;
+                retryAfter = parseRetryAfter(e.getResponseHeaders());
+            } catch (ResourceAccessException e) {
+                failure = e;
+            } catch (RuntimeException e) {
+                onSuccess();
+                throw e;
+            }
+
+            boolean open = onFailure(retryAfter);
+            if (open || attempt >= properties.maxRetries()) {
+                throw new OsmServiceUnavailableException(failure.getMessage(), retryAfter, failure);
+            }
+            Duration delay = backoff(attempt, retryAfter);
+            log.warn("OSM API request failed ({}), retrying in {} ms", failure.getMessage(), delay.toMillis());
+            meterRegistry.counter("campuscoffee.osm.retries").increment();
+            sleep(delay.toNanos());
+        }
+    }
+
+    /**
+     * Checks whether the circuit breaker allows a request. Once the open duration has passed,
+     * a single trial request is allowed while all other requests are still rejected.
+     */
+    private void acquirePermission() throws OsmServiceUnavailableException {
+        synchronized (circuitLock) {
+            if (openUntilNanos == null) {
+                return;
+            }
+            long remainingNanos = openUntilNanos - System.nanoTime();
+            if (remainingNanos <= 0 && !trialRequestPending) {
+                trialRequestPending = true;
+                return;
+            }
+            meterRegistry.counter("campuscoffee.osm.rejected").increment();
+            throw new OsmServiceUnavailableException("circuit breaker is open",
+                    Duration.ofNanos(Math.max(remainingNanos, 0)), null);
+        }
+    }
+
+    private void onSuccess() {
+        synchronized (circuitLock) {
+            if (openUntilNanos != null) {
+                log.info("OSM API is available again, closing circuit breaker");
+            }
+            consecutiveFailures = 0;
+            openUntilNanos = null;
+            trialRequestPending = false;
+        }
+    }
+
+    /**
+     * Records a failed request and opens the circuit breaker if necessary.
+     *
+     * @param retryAfter the delay requested by the API; null if none
+     * @return whether the circuit breaker is open
+     */
+    private boolean onFailure(@Nullable Duration retryAfter) {
+        synchronized (circuitLock) {
+            consecutiveFailures++;
+            boolean trialFailed = trialRequestPending;
+            trialRequestPending = false;
+            boolean backOff = retryAfter != null && retryAfter.compareTo(properties.maxBackoff()) > 0;
+            if (trialFailed || backOff || consecutiveFailures >= properties.failureThreshold()) {
+                Duration openDuration = backOff ? retryAfter : properties.openDuration();
+                log.warn("OSM API failed {} times in a row, opening circuit breaker for {} s",
+                        consecutiveFailures, openDuration.toSeconds());
+                openUntilNanos = System.nanoTime() + openDuration.toNanos();
+            }
+            return openUntilNanos != null;
+        }
+    }
+
+    /**
+     * Reserves a token of the bucket and waits until it becomes available.
+     */
+    private void acquireToken() throws OsmServiceUnavailableException {
+        long waitNanos;
+        synchronized (bucketLock) {
+            long now = System.nanoTime();
+            tokens = Math.min(properties.burst(),
+                    tokens + (double) (now - lastRefillNanos) * properties.requestsPerSecond() / NANOS_PER_SECOND);
+            lastRefillNanos = now;
+            tokens--;
+            waitNanos = tokens >= 0 ? 0 : (long) (-tokens / properties.requestsPerSecond() * NANOS_PER_SECOND);
+        }
+        sleep(waitNanos);
+    }
+
+    /**
+     * Calculates the delay before a retry: exponential backoff with jitter, but at least the delay requested by the API.
+     */
+    private Duration backoff(int attempt, @Nullable Duration retryAfter) {
+        long maxDelayNanos = Math.min(properties.maxBackoff().toNanos(),
+                properties.initialBackoff().toNanos() << Math.min(attempt, 30));
+        // spreading retries prevents concurrent callers from hitting the API at the same time again
+        long delayNanos = maxDelayNanos / 2 + ThreadLocalRandom.current().nextLong(maxDelayNanos / 2 + 1);
+        return retryAfter == null ? Duration.ofNanos(delayNanos) : Duration.ofNanos(Math.max(delayNanos, retryAfter.toNanos()));
+    }
+
+    private static boolean isRetryable(HttpStatusCodeException exception) {
+        return exception.getStatusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS)
+                || exception.getStatusCode().is5xxServerError();
+    }
+
+    /**
+     * Parses a {@code Retry-After} header, which contains either a number of seconds or an HTTP date.
+     *
+     * @return the requested delay; null if the header is missing or invalid
+     */
+    static @Nullable Duration parseRetryAfter(@Nullable HttpHeaders headers) {
+        String value = headers == null ? null : headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Math.max(Long.parseLong(value.trim()), 0));
+        } catch (NumberFormatException e) {
+            try {
+                Duration delay = Duration.between(ZonedDateTime.now(),
+                        ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME));
+                return delay.isNegative() ? Duration.ZERO : delay;
+            } catch (DateTimeParseException ignored) {
+                log.debug("Ignoring invalid Retry-After header: {}", value);
+                return null;
+            }
+        }
+    }
+
+    private static void sleep(long nanos) throws OsmServiceUnavailableException {
+        if (nanos <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(Duration.ofNanos(nanos));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OsmServiceUnavailableException("interrupted while waiting for the OSM API", null, e);
+        }
+    }
+}
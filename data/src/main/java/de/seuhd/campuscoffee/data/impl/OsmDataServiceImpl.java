@@ -1,27 +1,38 @@
 package de.seuhd.campuscoffee.data.impl;
 
 import de.seuhd.campuscoffee.domain.exceptions.OsmNodeNotFoundException;
+import de.seuhd.campuscoffee.domain.exceptions.OsmServiceUnavailableException;
+import de.seuhd.campuscoffee.domain.model.BoundingBox;
 import de.seuhd.campuscoffee.domain.model.OsmNode;
 import de.seuhd.campuscoffee.domain.ports.OsmDataService;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import de.seuhd.campuscoffee.data.impl.OsmNodeCache.CachedOsmNode;
 import org.jspecify.annotations.NonNull;
-import org.springframework.http.*;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.NodeList;
-import org.xml.sax.InputSource;
-
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import java.io.StringReader;
+
+import javax.xml.stream.XMLStreamException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * Implementation of OSM data service that fetches node data from OpenStreetMap API.
@@ -29,52 +40,64 @@ import java.util.Map;
  * This service:
  * <ul>
  *   <li>Makes HTTP GET requests to the OSM API</li>
- *   <li>Parses XML responses to extract node data and tags</li>
+ *   <li>Parses XML responses while they are streamed to extract node data and tags (see {@link OsmXmlParser})</li>
  *   <li>Maps OSM data to the OsmNode domain model</li>
+ *   <li>Caches fetched nodes on disk (see {@link OsmNodeCache}) and revalidates stale nodes using ETags</li>
+ *   <li>Rate-limits and retries requests and stops sending requests while the API is down (see {@link OsmApiGuard})</li>
+ * </ul>
+ * <p>
+ * OSM API endpoints (relative to the configurable base URL https://www.openstreetmap.org/api/0.6):
+ * <ul>
+ *   <li>{@code /node/{nodeId}} for single nodes</li>
+ *   <li>{@code /nodes?nodes={nodeId},{nodeId},...} for multiple nodes in a single request</li>
+ *   <li>{@code /map?bbox={minLon},{minLat},{maxLon},{maxLat}} for all nodes in an area</li>
  * </ul>
  * <p>
- * OSM API endpoint: https://www.openstreetmap.org/api/0.6/node/{nodeId}
+ * The latency of {@link #fetchNode(Long)} and {@link #fetchNodes(Collection)} (including cache lookups) is recorded as
+ * timer {@code campuscoffee.osm.fetch}, the time spent parsing API responses as timer {@code campuscoffee.osm.parse}.
  */
 @Service
+@Timed(value = "campuscoffee.osm.fetch", description = "Latency of fetching OSM nodes")
 @Slf4j
 @RequiredArgsConstructor
 class OsmDataServiceImpl implements OsmDataService {
-    private static final String OSM_API_BASE_URL = "https://www.openstreetmap.org/api/0.6/node/";
     private final RestTemplate restTemplate;
+    private final OsmApiGuard osmApiGuard;
+    private final OsmNodeCache osmNodeCache;
+    private final MeterRegistry meterRegistry;
+    @Value("${campus-coffee.osm.api-base-url:https://www.openstreetmap.org/api/0.6}")
+    private final String osmApiBaseUrl;
+    @Value("${campus-coffee.osm.max-url-length:4000}")
+    private final int maxUrlLength;
 
     @Override
-    public @NonNull OsmNode fetchNode(@NonNull Long nodeId) throws OsmNodeNotFoundException {
-        String url = OSM_API_BASE_URL + nodeId;
+    public @NonNull OsmNode fetchNode(@NonNull Long nodeId) throws OsmNodeNotFoundException, OsmServiceUnavailableException {
+        Optional<CachedOsmNode> cached = osmNodeCache.get(nodeId);
+        if (cached.isPresent() && cached.get().fresh()) {
+            log.debug("Serving OSM node {} from cache", nodeId);
+            return cached.get().node();
+        }
+
+        String url = osmApiBaseUrl + "/node/" + nodeId;
         log.info("Fetching OSM node {} from {}", nodeId, url);
 
         try {
-            // Set headers to explicitly request XML response
-            HttpHeaders headers = new HttpHeaders();
-            headers.setAccept(java.util.List.of(MediaType.APPLICATION_XML, MediaType.TEXT_XML));
-            HttpEntity<String> entity = new HttpEntity<>(headers);
-            
-            ResponseEntity<String> response = restTemplate.exchange(
-                    url, HttpMethod.GET, entity, String.class);
-            
-            log.info("OSM API response - Status: {}, Content-Type: {}", 
-                    response.getStatusCode(), response.getHeaders().getContentType());
-
-            if (response.getStatusCode() != HttpStatus.OK) {
-                log.error("OSM API returned non-OK status {} for node {}", 
-                         response.getStatusCode(), nodeId);
-                throw new OsmNodeNotFoundException(nodeId);
+            // revalidate stale cache entries with a conditional request if the API provided an ETag
+            OsmResponse response = fetchXml(URI.create(url), cached.map(CachedOsmNode::etag).orElse(null));
+            if (response.notModified() && cached.isPresent()) {
+                log.debug("OSM node {} has not changed, refreshing cache entry", nodeId);
+                osmNodeCache.touch(nodeId);
+                return cached.get().node();
             }
 
-            String xmlResponse = response.getBody();
-            if (xmlResponse == null || xmlResponse.isEmpty()) {
-                log.error("Empty response body from OSM API for node {}", nodeId);
-                throw new OsmNodeNotFoundException(nodeId);
-            }
-
-            log.debug("Received XML response for node {}: {} bytes", nodeId, xmlResponse.length());
-            log.trace("XML content: {}", xmlResponse);
-            
-            OsmNode osmNode = parseOsmXml(xmlResponse, nodeId);
+            OsmNode osmNode = response.nodes().stream()
+                    .filter(node -> node.nodeId().equals(nodeId))
+                    .findFirst()
+                    .orElseThrow(() -> {
+                        log.warn("No <node> element found in OSM XML for node {}", nodeId);
+                        return new OsmNodeNotFoundException(nodeId);
+                    });
+            osmNodeCache.put(osmNode, response.etag());
             log.info("Successfully fetched OSM node {} with name: {}", nodeId, osmNode.name());
             return osmNode;
 
@@ -84,15 +107,20 @@ class OsmDataServiceImpl implements OsmDataService {
         } catch (HttpClientErrorException e) {
             log.error("HTTP client error fetching OSM node {}: {} {} - Response: {}", 
                      nodeId, e.getStatusCode(), e.getStatusText(), e.getResponseBodyAsString(), e);
+            if (e instanceof HttpClientErrorException.NotFound || e instanceof HttpClientErrorException.Gone) {
+                osmNodeCache.evict(nodeId);
+            }
             throw new OsmNodeNotFoundException(nodeId);
-        } catch (HttpServerErrorException e) {
-            log.error("HTTP server error fetching OSM node {}: {} {} - Response: {}", 
-                     nodeId, e.getStatusCode(), e.getStatusText(), e.getResponseBodyAsString(), e);
-            throw new OsmNodeNotFoundException(nodeId);
+        } catch (OsmServiceUnavailableException e) {
+            log.error("OSM API unavailable fetching OSM node {}: {}", nodeId, e.getMessage());
+            return cached.map(cachedNode -> {
+                log.warn("Serving stale OSM node {} from cache", nodeId);
+                return cachedNode.node();
+            }).orElseThrow(() -> e);
         } catch (RestClientException e) {
             log.error("REST client error fetching OSM node {}: {} - {}", 
                      nodeId, e.getClass().getSimpleName(), e.getMessage(), e);
-            throw new OsmNodeNotFoundException(nodeId);
+            return staleOrThrow(nodeId, cached);
         } catch (Exception e) {
             log.error("Unexpected error fetching OSM node {}: {} - {}", 
                      nodeId, e.getClass().getSimpleName(), e.getMessage(), e);
@@ -101,122 +129,203 @@ class OsmDataServiceImpl implements OsmDataService {
     }
 
     /**
-     * Parses OSM XML response and extracts node data and tags.
-     * <p>
-     * Expected XML structure:
-     * <pre>{@code
-     * <osm>
-     *   <node id="5589879349" lat="49.4134" lon="8.6889">
-     *     <tag k="name" v="Rada Coffee & Rösterei"/>
-     *     <tag k="amenity" v="cafe"/>
-     *     <tag k="addr:street" v="Untere Straße"/>
-     *     <tag k="addr:housenumber" v="21"/>
-     *     <tag k="addr:postcode" v="69117"/>
-     *     <tag k="addr:city" v="Heidelberg"/>
-     *   </node>
-     * </osm>
-     * }</pre>
+     * Falls back to a stale cached node if the response of the OSM API cannot be used.
      *
-     * @param xmlResponse the XML response from OSM API
-     * @param nodeId the expected node ID (for validation)
-     * @return OsmNode with extracted data
-     * @throws OsmNodeNotFoundException if XML is invalid or node not found
+     * @param nodeId the OSM node ID
+     * @param cached the cached node, if any
+     * @return the stale cached node
+     * @throws OsmNodeNotFoundException if the node is not cached
      */
-    private OsmNode parseOsmXml(String xmlResponse, Long nodeId) throws OsmNodeNotFoundException {
-        try {
-            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-            DocumentBuilder builder = factory.newDocumentBuilder();
-            Document doc = builder.parse(new InputSource(new StringReader(xmlResponse)));
-            doc.getDocumentElement().normalize();
-
-            // Get the node element
-            NodeList nodeList = doc.getElementsByTagName("node");
-            if (nodeList.getLength() == 0) {
-                log.warn("No <node> element found in OSM XML for node {}", nodeId);
-                throw new OsmNodeNotFoundException(nodeId);
-            }
+    private OsmNode staleOrThrow(Long nodeId, Optional<CachedOsmNode> cached) throws OsmNodeNotFoundException {
+        return cached.map(cachedNode -> {
+            log.warn("Serving stale OSM node {} from cache", nodeId);
+            return cachedNode.node();
+        }).orElseThrow(() -> new OsmNodeNotFoundException(nodeId));
+    }
 
-            Element nodeElement = (Element) nodeList.item(0);
-
-            // Extract node attributes
-            Double latitude = parseDoubleAttribute(nodeElement, "lat", nodeId);
-            Double longitude = parseDoubleAttribute(nodeElement, "lon", nodeId);
-
-            // Extract all tags
-            Map<String, String> tags = extractTags(nodeElement);
-
-            // Build and return OsmNode
-            return OsmNode.builder()
-                    .nodeId(nodeId)
-                    .latitude(latitude)
-                    .longitude(longitude)
-                    .name(tags.get("name"))
-                    .amenity(tags.get("amenity"))
-                    .cuisine(tags.get("cuisine"))
-                    .street(tags.get("addr:street"))
-                    .houseNumber(tags.get("addr:housenumber"))
-                    .postcode(tags.get("addr:postcode"))
-                    .city(tags.get("addr:city"))
-                    .website(tags.get("website"))
-                    .phone(tags.get("phone"))
-                    .openingHours(tags.get("opening_hours"))
-                    .build();
+    @Override
+    public @NonNull Map<Long, OsmNode> fetchNodes(@NonNull Collection<Long> nodeIds) throws OsmServiceUnavailableException {
+        Map<Long, OsmNode> nodes = new LinkedHashMap<>();
+        Map<Long, OsmNode> staleNodes = new HashMap<>();
+        List<Long> nodeIdsToFetch = new ArrayList<>();
+        for (Long nodeId : nodeIds.stream().distinct().toList()) {
+            Optional<CachedOsmNode> cached = osmNodeCache.get(nodeId);
+            if (cached.isPresent() && cached.get().fresh()) {
+                nodes.put(nodeId, cached.get().node());
+            } else {
+                cached.ifPresent(cachedNode -> staleNodes.put(nodeId, cachedNode.node()));
+                nodeIdsToFetch.add(nodeId);
+            }
+        }
+        log.debug("Serving {} OSM nodes from cache, fetching {}", nodes.size(), nodeIdsToFetch.size());
 
-        } catch (OsmNodeNotFoundException e) {
-            throw e;
-        } catch (Exception e) {
-            log.error("Failed to parse OSM XML for node {}: {}", nodeId, e.getMessage(), e);
-            throw new OsmNodeNotFoundException(nodeId);
+        // the multi-fetch API does not support conditional requests, so stale nodes are fetched again;
+        // their versions tell whether the cached payload (and its ETag) is still current
+        for (List<Long> chunk : chunkByUrlLength(nodeIdsToFetch)) {
+            fetchChunk(chunk, nodes, staleNodes);
         }
+        log.info("Fetched {} of {} requested OSM nodes", nodes.size(), nodeIds.size());
+        return nodes;
     }
 
     /**
-     * Parses a double attribute from an XML element.
+     * Splits node IDs into chunks whose multi-fetch URL stays below the configured maximum URL length.
      *
-     * @param element the XML element
-     * @param attributeName the attribute name
-     * @param nodeId the node ID (for error messages)
-     * @return the parsed double value
-     * @throws OsmNodeNotFoundException if attribute is missing or invalid
+     * @param nodeIds the distinct node IDs to split
+     * @return the chunks in the original order
      */
-    private Double parseDoubleAttribute(Element element, String attributeName, Long nodeId)
-            throws OsmNodeNotFoundException {
-        String value = element.getAttribute(attributeName);
-        if (value == null || value.isEmpty()) {
-            log.warn("Missing {} attribute in OSM node {}", attributeName, nodeId);
-            throw new OsmNodeNotFoundException(nodeId);
+    private List<List<Long>> chunkByUrlLength(List<Long> nodeIds) {
+        List<List<Long>> chunks = new ArrayList<>();
+        List<Long> chunk = new ArrayList<>();
+        int urlLength = multiFetchUrlPrefix().length();
+        for (Long nodeId : nodeIds) {
+            int idLength = nodeId.toString().length() + (chunk.isEmpty() ? 0 : 1); // including separating comma
+            if (!chunk.isEmpty() && urlLength + idLength > maxUrlLength) {
+                chunks.add(chunk);
+                chunk = new ArrayList<>();
+                urlLength = multiFetchUrlPrefix().length();
+                idLength = nodeId.toString().length();
+            }
+            chunk.add(nodeId);
+            urlLength += idLength;
         }
-        try {
-            return Double.parseDouble(value);
-        } catch (NumberFormatException e) {
-            log.warn("Invalid {} value '{}' in OSM node {}", attributeName, value, nodeId);
-            throw new OsmNodeNotFoundException(nodeId);
+        if (!chunk.isEmpty()) {
+            chunks.add(chunk);
         }
+        return chunks;
     }
 
     /**
-     * Extracts all tags from a node element as a key-value map.
+     * Fetches a chunk of nodes with a single multi-fetch request and adds the result to the given map.
      * <p>
-     * Each {@code <tag k="key" v="value"/>} element is extracted into the map.
+     * The OSM API answers a multi-fetch request with 404 if any of the requested nodes does not exist.
+     * In that case, the chunk is split in halves that are fetched separately, so that the existing nodes
+     * of the chunk are still fetched with few requests.
+     * Fetched nodes are cached; stale cached nodes whose version has not changed are only marked as fresh, so that
+     * their ETag is kept for conditional requests. If the chunk cannot be fetched for other reasons, stale cached
+     * nodes are used instead.
      *
-     * @param nodeElement the node XML element
-     * @return map of tag keys to values
+     * @param chunk the node IDs to fetch
+     * @param nodes the map to add the fetched nodes to
+     * @param staleNodes stale cached nodes by node ID to fall back to if the OSM API is not available
+     * @throws OsmServiceUnavailableException if the OSM API is not available and not all nodes of the chunk are cached
      */
-    private Map<String, String> extractTags(Element nodeElement) {
-        Map<String, String> tags = new HashMap<>();
-        NodeList tagList = nodeElement.getElementsByTagName("tag");
+    private void fetchChunk(List<Long> chunk, Map<Long, OsmNode> nodes, Map<Long, OsmNode> staleNodes) {
+        String url = multiFetchUrlPrefix() + chunk.stream().map(String::valueOf).collect(Collectors.joining(","));
+        log.debug("Fetching {} OSM nodes from {}", chunk.size(), url);
+
+        try {
+            for (OsmNode node : fetchXml(URI.create(url), null).nodes()) {
+                nodes.put(node.nodeId(), node);
+                OsmNode staleNode = staleNodes.get(node.nodeId());
+                if (staleNode != null && node.version() != null && node.version().equals(staleNode.version())) {
+                    osmNodeCache.touch(node.nodeId());
+                } else {
+                    osmNodeCache.put(node, null);
+                }
+            }
+        } catch (HttpClientErrorException.NotFound | HttpClientErrorException.Gone e) {
+            if (chunk.size() == 1) {
+                log.warn("OSM node {} does not exist", chunk.getFirst());
+                osmNodeCache.evict(chunk.getFirst());
+                return;
+            }
+            int middle = chunk.size() / 2;
+            fetchChunk(chunk.subList(0, middle), nodes, staleNodes);
+            fetchChunk(chunk.subList(middle, chunk.size()), nodes, staleNodes);
+        } catch (OsmServiceUnavailableException e) {
+            // nodes that are not cached cannot be reported as missing, because they may exist
+            if (!staleNodes.keySet().containsAll(chunk)) {
+                throw e;
+            }
+            log.error("OSM API unavailable fetching OSM nodes {}: {}", chunk, e.getMessage());
+            useStaleNodes(chunk, nodes, staleNodes);
+        } catch (RestClientException e) {
+            log.error("Error fetching OSM nodes {}: {} - {}",
+                    chunk, e.getClass().getSimpleName(), e.getMessage(), e);
+            useStaleNodes(chunk, nodes, staleNodes);
+        } catch (IllegalStateException e) {
+            log.error("Failed to parse OSM XML for nodes {}: {}", chunk, e.getMessage(), e);
+            useStaleNodes(chunk, nodes, staleNodes);
+        }
+    }
+
+    @Override
+    public @NonNull List<OsmNode> fetchNodes(@NonNull BoundingBox boundingBox) throws OsmServiceUnavailableException {
+        String url = osmApiBaseUrl + "/map?bbox=" + boundingBox.minLongitude() + "," + boundingBox.minLatitude()
+                + "," + boundingBox.maxLongitude() + "," + boundingBox.maxLatitude();
+        log.info("Fetching OSM nodes in {} from {}", boundingBox, url);
 
-        for (int i = 0; i < tagList.getLength(); i++) {
-            Element tagElement = (Element) tagList.item(i);
-            String key = tagElement.getAttribute("k");
-            String value = tagElement.getAttribute("v");
+        List<OsmNode> nodes = fetchXml(URI.create(url), null).nodes();
+        // most nodes in an area only describe the geometry of ways; only named nodes can become a POS
+        nodes.stream()
+                .filter(node -> node.name() != null)
+                .forEach(node -> osmNodeCache.put(node, null));
+        log.info("Fetched {} OSM nodes in {}", nodes.size(), boundingBox);
+        return nodes;
+    }
 
-            if (key != null && !key.isEmpty() && value != null && !value.isEmpty()) {
-                tags.put(key, value);
+    private static void useStaleNodes(List<Long> chunk, Map<Long, OsmNode> nodes, Map<Long, OsmNode> staleNodes) {
+        for (Long nodeId : chunk) {
+            OsmNode staleNode = staleNodes.get(nodeId);
+            if (staleNode != null) {
+                log.warn("Serving stale OSM node {} from cache", nodeId);
+                nodes.put(nodeId, staleNode);
             }
         }
+    }
 
-        log.debug("Extracted {} tags from OSM node", tags.size());
-        return tags;
+    private String multiFetchUrlPrefix() {
+        return osmApiBaseUrl + "/nodes?nodes=";
+    }
+
+    /**
+     * Performs a GET request that explicitly requests an XML response and parses the response body while it is read.
+     * The request is rate-limited and retried by the {@link OsmApiGuard}.
+     *
+     * @param uri the URI of the OSM API resource
+     * @param etag the ETag of a cached version of the resource to send as {@code If-None-Match}; null for an unconditional request
+     * @return the parsed response
+     * @throws OsmServiceUnavailableException if the OSM API is not available or keeps failing
+     * @throws RestClientException if the server responds with a client error status
+     * @throws IllegalStateException if the response is not valid XML
+     */
+    private OsmResponse fetchXml(URI uri, @Nullable String etag)
+            throws OsmServiceUnavailableException, RestClientException, IllegalStateException {
+        return osmApiGuard.execute(() -> restTemplate.execute(uri, HttpMethod.GET,
+                request -> {
+                    request.getHeaders().setAccept(List.of(MediaType.APPLICATION_XML, MediaType.TEXT_XML));
+                    if (etag != null) {
+                        request.getHeaders().setIfNoneMatch(etag);
+                    }
+                },
+                response -> {
+                    log.debug("OSM API response - Status: {}, Content-Type: {}",
+                            response.getStatusCode(), response.getHeaders().getContentType());
+                    if (response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+                        return new OsmResponse(List.of(), etag, true);
+                    }
+                    // the parser reads from the response stream, so the parse time includes receiving the body
+                    Timer.Sample parseSample = Timer.start(meterRegistry);
+                    try {
+                        return new OsmResponse(OsmXmlParser.parse(response.getBody()),
+                                response.getHeaders().getFirst(HttpHeaders.ETAG), false);
+                    } catch (XMLStreamException e) {
+                        throw new IllegalStateException("Failed to parse OSM XML: " + e.getMessage(), e);
+                    } finally {
+                        parseSample.stop(Timer.builder("campuscoffee.osm.parse")
+                                .description("Time spent reading and parsing OSM API responses")
+                                .register(meterRegistry));
+                    }
+                }));
     }
+
+    /**
+     * A parsed response of the OSM API.
+     *
+     * @param nodes       the nodes contained in the response; empty if the resource has not been modified
+     * @param etag        the ETag of the response; null if the API did not provide one
+     * @param notModified whether the API answered a conditional request with 304 (Not Modified)
+     */
+    private record OsmResponse(List<OsmNode> nodes, @Nullable String etag, boolean notModified) {}
 }
@@ -0,0 +1,60 @@
+package de.seuhd.campuscoffee.data.impl;
+
+import de.seuhd.campuscoffee.data.mapper.OsmImportJobEntityMapper;
+import de.seuhd.campuscoffee.data.persistence.OsmImportJobEntity;
+import de.seuhd.campuscoffee.data.persistence.OsmImportJobRepository;
+import de.seuhd.campuscoffee.domain.exceptions.OsmImportJobNotFoundException;
+import de.seuhd.campuscoffee.domain.model.OsmImportJob;
+import de.seuhd.campuscoffee.domain.model.OsmImportJobStatus;
+import de.seuhd.campuscoffee.domain.ports.OsmImportJobDataService;
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.NonNull;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Implementation of the OSM import job data service that the domain layer provides as a port.
+ * Like the {@link PosDataServiceImpl}, reads run in read-only transactions and writes in read-write transactions.
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+class OsmImportJobDataServiceImpl implements OsmImportJobDataService {
+    private final OsmImportJobRepository osmImportJobRepository;
+    private final OsmImportJobEntityMapper osmImportJobEntityMapper;
+
+    @Override
+    @Transactional
+    public @NonNull OsmImportJob create(@NonNull OsmImportJob job) {
+        return osmImportJobEntityMapper.fromEntity(
+                osmImportJobRepository.saveAndFlush(osmImportJobEntityMapper.toEntity(job)));
+    }
+
+    @Override
+    @Transactional
+    public @NonNull OsmImportJob update(@NonNull OsmImportJob job) throws OsmImportJobNotFoundException {
+        Long id = Objects.requireNonNull(job.id());
+        OsmImportJobEntity entity = osmImportJobRepository.findById(id)
+                .orElseThrow(() -> new OsmImportJobNotFoundException(id));
+        osmImportJobEntityMapper.updateEntity(job, entity);
+        return osmImportJobEntityMapper.fromEntity(osmImportJobRepository.saveAndFlush(entity));
+    }
+
+    @Override
+    public @NonNull OsmImportJob getById(@NonNull Long id) throws OsmImportJobNotFoundException {
+        return osmImportJobRepository.findById(id)
+                .map(osmImportJobEntityMapper::fromEntity)
+                .orElseThrow(() -> new OsmImportJobNotFoundException(id));
+    }
+
+    @Override
+    public @NonNull List<OsmImportJob> getUnfinished() {
+        return osmImportJobRepository.findByStatusInOrderByIdAsc(
+                        List.of(OsmImportJobStatus.QUEUED, OsmImportJobStatus.RUNNING)).stream()
+                .map(osmImportJobEntityMapper::fromEntity)
+                .toList();
+    }
+}
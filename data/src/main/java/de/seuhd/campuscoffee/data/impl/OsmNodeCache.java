@@ -0,0 +1,219 @@
+package de.seuhd.campuscoffee.data.impl;
+
+import de.seuhd.campuscoffee.data.config.OsmCacheProperties;
+import de.seuhd.campuscoffee.domain.model.OsmNode;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.springframework.stereotype.Component;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Persistent cache of OpenStreetMap node payloads on the local disk.
+ * <p>
+ * Each node is stored as {@code <nodeId>.xml} in the configured directory, using the OSM API XML format restricted
+ * to the node attributes (ID, version, coordinates) and the tags of the {@link OsmNode} model, so cached payloads are
+ * read with the same {@link OsmXmlParser} as API responses. If the API returned an ETag, it is stored in
+ * {@code <nodeId>.etag} so that stale entries can be revalidated with a conditional request. The multi-fetch API
+ * does not support conditional requests; there, the cached version is compared with the fetched one instead, and
+ * unchanged entries are only refreshed, so that they keep their ETag.
+ * The modification time of the payload file is the time of the last successful fetch or revalidation;
+ * entries older than the configured TTL are considered stale.
+ * <p>
+ * The cache is an optimization only: I/O errors are logged and treated as cache misses.
+ */
+@Slf4j
+@Component
+class OsmNodeCache {
+    private static final XMLOutputFactory XML_OUTPUT_FACTORY = XMLOutputFactory.newFactory();
+
+    private final OsmCacheProperties properties;
+
+    OsmNodeCache(OsmCacheProperties properties) {
+        this.properties = properties;
+        if (properties.enabled()) {
+            try {
+                Files.createDirectories(properties.directory());
+                log.info("Caching OSM nodes in {}", properties.directory());
+            } catch (IOException e) {
+                log.warn("Cannot create OSM node cache directory {}: {}", properties.directory(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Returns the cached node with the given ID.
+     *
+     * @param nodeId the OSM node ID
+     * @return the cached node including its freshness and ETag; empty if the node is not cached
+     */
+    Optional<CachedOsmNode> get(@NonNull Long nodeId) {
+        if (!properties.enabled()) {
+            return Optional.empty();
+        }
+        Path payloadFile = payloadFile(nodeId);
+        try (InputStream inputStream = Files.newInputStream(payloadFile)) {
+            Optional<OsmNode> node = OsmXmlParser.parse(inputStream).stream()
+                    .filter(cachedNode -> cachedNode.nodeId().equals(nodeId))
+                    .findFirst();
+            if (node.isEmpty()) {
+                return Optional.empty();
+            }
+            Instant fetchedAt = Files.getLastModifiedTime(payloadFile).toInstant();
+            boolean fresh = fetchedAt.plus(properties.ttl()).isAfter(Instant.now());
+            return Optional.of(new CachedOsmNode(node.get(), readEtag(nodeId), fresh));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException | XMLStreamException e) {
+            log.warn("Cannot read cached OSM node {}: {}", nodeId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Stores a node that has just been fetched from the OSM API.
+     *
+     * @param node the fetched node
+     * @param etag the ETag returned by the OSM API; null if none was returned
+     */
+    void put(@NonNull OsmNode node, @Nullable String etag) {
+        if (!properties.enabled()) {
+            return;
+        }
+        try {
+            Path tempFile = Files.createTempFile(properties.directory(), node.nodeId().toString(), ".tmp");
+            try (OutputStream outputStream = Files.newOutputStream(tempFile)) {
+                writeXml(node, outputStream);
+            }
+            // replace atomically so that concurrent readers never see a partially written file
+            Files.move(tempFile, payloadFile(node.nodeId()),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            if (etag != null) {
+                Files.writeString(etagFile(node.nodeId()), etag, StandardCharsets.UTF_8);
+            } else {
+                Files.deleteIfExists(etagFile(node.nodeId()));
+            }
+            log.debug("Cached OSM node {} (version {})", node.nodeId(), node.version());
+        } catch (IOException | XMLStreamException e) {
+            log.warn("Cannot cache OSM node {}: {}", node.nodeId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Marks a cached node as fresh after the OSM API confirmed that it has not changed.
+     *
+     * @param nodeId the OSM node ID
+     */
+    void touch(@NonNull Long nodeId) {
+        if (!properties.enabled()) {
+            return;
+        }
+        try {
+            Files.setLastModifiedTime(payloadFile(nodeId), FileTime.from(Instant.now()));
+        } catch (IOException e) {
+            log.warn("Cannot refresh cached OSM node {}: {}", nodeId, e.getMessage());
+        }
+    }
+
+    /**
+     * Removes a node from the cache, e.g., because it has been deleted in OpenStreetMap.
+     *
+     * @param nodeId the OSM node ID
+     */
+    void evict(@NonNull Long nodeId) {
+        if (!properties.enabled()) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(payloadFile(nodeId));
+            Files.deleteIfExists(etagFile(nodeId));
+        } catch (IOException e) {
+            log.warn("Cannot evict cached OSM node {}: {}", nodeId, e.getMessage());
+        }
+    }
+
+    private @Nullable String readEtag(Long nodeId) throws IOException {
+        try {
+            return Files.readString(etagFile(nodeId), StandardCharsets.UTF_8);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    private Path payloadFile(Long nodeId) {
+        return properties.directory().resolve(nodeId + ".xml");
+    }
+
+    private Path etagFile(Long nodeId) {
+        return properties.directory().resolve(nodeId + ".etag");
+    }
+
+    /**
+     * Writes a node in the OSM API XML format.
+     *
+     * @param node the node to write
+     * @param outputStream the stream to write to
+     * @throws XMLStreamException if writing fails
+     */
+    private static void writeXml(OsmNode node, OutputStream outputStream) throws XMLStreamException {
+        XMLStreamWriter writer = XML_OUTPUT_FACTORY.createXMLStreamWriter(outputStream, StandardCharsets.UTF_8.name());
+        try {
+            writer.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0");
+            writer.writeStartElement("osm");
+            writer.writeAttribute("version", "0.6");
+            writer.writeStartElement("node");
+            writer.writeAttribute("id", node.nodeId().toString());
+            if (node.version() != null) {
+                writer.writeAttribute("version", node.version().toString());
+            }
+            writer.writeAttribute("lat", node.latitude().toString());
+            writer.writeAttribute("lon", node.longitude().toString());
+            writeTag(writer, "name", node.name());
+            writeTag(writer, "amenity", node.amenity());
+            writeTag(writer, "cuisine", node.cuisine());
+            writeTag(writer, "addr:street", node.street());
+            writeTag(writer, "addr:housenumber", node.houseNumber());
+            writeTag(writer, "addr:postcode", node.postcode());
+            writeTag(writer, "addr:city", node.city());
+            writeTag(writer, "website", node.website());
+            writeTag(writer, "phone", node.phone());
+            writeTag(writer, "opening_hours", node.openingHours());
+            writer.writeEndElement();
+            writer.writeEndElement();
+            writer.writeEndDocument();
+        } finally {
+            writer.close();
+        }
+    }
+
+    private static void writeTag(XMLStreamWriter writer, String key, @Nullable String value) throws XMLStreamException {
+        if (value != null) {
+            writer.writeEmptyElement("tag");
+            writer.writeAttribute("k", key);
+            writer.writeAttribute("v", value);
+        }
+    }
+
+    /**
+     * A node read from the cache.
+     *
+     * @param node  the cached node
+     * @param etag  the ETag returned by the OSM API when the node was fetched; null if none was returned
+     * @param fresh whether the node was fetched or revalidated within the configured TTL
+     */
+    record CachedOsmNode(@NonNull OsmNode node, @Nullable String etag, boolean fresh) {}
+}
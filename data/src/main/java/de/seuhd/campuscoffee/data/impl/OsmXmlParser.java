@@ -0,0 +1,140 @@
+package de.seuhd.campuscoffee.data.impl;
+
+import de.seuhd.campuscoffee.domain.model.OsmNode;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming (StAX) parser for OSM API XML responses.
+ * <p>
+ * The parser reads the response directly from an input stream and only extracts the node attributes and tags
+ * that are part of the {@link OsmNode} model. It never materializes the document as a string or DOM tree,
+ * so memory usage only depends on the number of nodes in the response, not on the size of the document.
+ * <p>
+ * Expected XML structure (single-node responses contain exactly one {@code <node>} element):
+ * <pre>{@code
+ * <osm>
+ *   <node id="5589879349" lat="49.4134" lon="8.6889">
+ *     <tag k="name" v="Rada Coffee & Rösterei"/>
+ *     <tag k="amenity" v="cafe"/>
+ *     <tag k="addr:street" v="Untere Straße"/>
+ *     <tag k="addr:housenumber" v="21"/>
+ *     <tag k="addr:postcode" v="69117"/>
+ *     <tag k="addr:city" v="Heidelberg"/>
+ *   </node>
+ * </osm>
+ * }</pre>
+ * Deleted nodes (attribute {@code visible="false"}) and nodes with a missing or invalid ID or coordinates are skipped.
+ */
+@Slf4j
+final class OsmXmlParser {
+    // creating a factory involves a service lookup, so a single configured instance is shared
+    private static final XMLInputFactory XML_INPUT_FACTORY = createXmlInputFactory();
+
+    private OsmXmlParser() {}
+
+    /**
+     * Parses all nodes from an OSM XML document.
+     *
+     * @param inputStream the XML document; it is not closed by this method
+     * @return the nodes contained in the document in document order
+     * @throws XMLStreamException if the document is not well-formed XML
+     */
+    static List<OsmNode> parse(InputStream inputStream) throws XMLStreamException {
+        List<OsmNode> nodes = new ArrayList<>();
+        XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(inputStream);
+        try {
+            OsmNode.OsmNodeBuilder currentNode = null;
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    switch (reader.getLocalName()) {
+                        case "node" -> currentNode = startNode(reader);
+                        case "tag" -> {
+                            if (currentNode != null) { // ignore tags of ways and relations
+                                applyTag(currentNode, reader.getAttributeValue(null, "k"), reader.getAttributeValue(null, "v"));
+                            }
+                        }
+                        default -> { /* other elements are not relevant for POS */ }
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT && "node".equals(reader.getLocalName())) {
+                    if (currentNode != null) {
+                        nodes.add(currentNode.build());
+                    }
+                    currentNode = null;
+                }
+            }
+        } finally {
+            reader.close();
+        }
+        log.debug("Parsed {} nodes from OSM XML", nodes.size());
+        return nodes;
+    }
+
+    /**
+     * Reads the attributes of a {@code <node>} start element.
+     *
+     * @param reader the reader positioned at the start element
+     * @return a builder initialized with the node ID, version, and coordinates, or null if the node should be skipped
+     */
+    private static OsmNode.OsmNodeBuilder startNode(XMLStreamReader reader) {
+        if ("false".equals(reader.getAttributeValue(null, "visible"))) {
+            return null;
+        }
+        String id = reader.getAttributeValue(null, "id");
+        String version = reader.getAttributeValue(null, "version");
+        String lat = reader.getAttributeValue(null, "lat");
+        String lon = reader.getAttributeValue(null, "lon");
+        try {
+            return OsmNode.builder()
+                    .nodeId(Long.parseLong(id))
+                    .version(version == null ? null : Long.parseLong(version))
+                    .latitude(Double.parseDouble(lat))
+                    .longitude(Double.parseDouble(lon));
+        } catch (NullPointerException | NumberFormatException e) {
+            log.warn("Skipping OSM node with invalid attributes id='{}', lat='{}', lon='{}'", id, lat, lon);
+            return null;
+        }
+    }
+
+    /**
+     * Applies a {@code <tag k="key" v="value"/>} element to the node if the key is part of the model.
+     *
+     * @param node the node builder
+     * @param key the tag key
+     * @param value the tag value
+     */
+    private static void applyTag(OsmNode.OsmNodeBuilder node, String key, String value) {
+        if (key == null || value == null || value.isEmpty()) {
+            return;
+        }
+        switch (key) {
+            case "name" -> node.name(value);
+            case "amenity" -> node.amenity(value);
+            case "cuisine" -> node.cuisine(value);
+            case "addr:street" -> node.street(value);
+            case "addr:housenumber" -> node.houseNumber(value);
+            case "addr:postcode" -> node.postcode(value);
+            case "addr:city" -> node.city(value);
+            case "website" -> node.website(value);
+            case "phone" -> node.phone(value);
+            case "opening_hours" -> node.openingHours(value);
+            default -> { /* tag is not part of the OsmNode model */ }
+        }
+    }
+
+    private static XMLInputFactory createXmlInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        // OSM responses do not use DTDs; disabling them also prevents XML external entity attacks
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+}
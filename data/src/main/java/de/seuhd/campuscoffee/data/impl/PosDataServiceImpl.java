@@ -2,41 +2,103 @@ package de.seuhd.campuscoffee.data.impl;
 
 import de.seuhd.campuscoffee.data.mapper.PosEntityMapper;
 import de.seuhd.campuscoffee.data.persistence.PosEntity;
+import de.seuhd.campuscoffee.data.persistence.PosJdbcRepository;
 import de.seuhd.campuscoffee.data.persistence.PosRepository;
 import de.seuhd.campuscoffee.domain.model.Pos;
+import de.seuhd.campuscoffee.domain.model.PosCatalogVersion;
+import de.seuhd.campuscoffee.domain.model.PosFilter;
+import de.seuhd.campuscoffee.domain.model.PosUpsertResult;
 import de.seuhd.campuscoffee.domain.exceptions.DuplicatePosNameException;
 import de.seuhd.campuscoffee.domain.exceptions.PosNotFoundException;
 import de.seuhd.campuscoffee.domain.ports.PosDataService;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Implementation of the POS data service that the domain layer provides as a port.
  * This layer is responsible for data access and persistence.
  * Business logic should be in the service layer.
+ * The latency of each data store call is recorded as timer {@code campuscoffee.pos.data}, tagged with the method name.
+ * <p>
+ * This adapter owns the transaction boundaries: every method runs in a read-only transaction unless it is annotated
+ * as read-write. In read-only transactions, Hibernate loads entities as read-only (no snapshots for dirty checking)
+ * and does not flush, and the JDBC connection is marked read-only. Since open-in-view is disabled, the connection
+ * is returned to the pool when the method returns, before the API layer maps and serializes the result.
  */
 @Service
+@Timed(value = "campuscoffee.pos.data", description = "Latency of POS data store operations")
+@Transactional(readOnly = true)
 @RequiredArgsConstructor
 class PosDataServiceImpl implements PosDataService {
+    private static final Pattern DUPLICATE_NAME_PATTERN = Pattern.compile("Key \\(name\\)=\\((.*)\\) already exists");
+
     private final PosRepository posRepository;
+    private final PosJdbcRepository posJdbcRepository;
     private final PosEntityMapper posEntityMapper;
+    private final EntityManager entityManager;
 
     @Override
+    @Transactional
     public void clear() {
-        posRepository.deleteAllInBatch();
-        posRepository.flush();
-        posRepository.resetSequence();
+        posJdbcRepository.deleteAll();
+        // The ID sequence is not reset: Hibernate hands out IDs from blocks it has already allocated,
+        // so restarting the sequence would lead to duplicate IDs.
     }
 
     @Override
     public @NonNull List<Pos> getAll() {
-        return posRepository.findAll().stream()
-                .map(posEntityMapper::fromEntity)
-                .toList();
+        return posJdbcRepository.findAll(PosFilter.NONE, null, null);
+    }
+
+    @Override
+    public @NonNull PosCatalogVersion getCatalogVersion() {
+        return posRepository.findCatalogVersion();
+    }
+
+    @Override
+    public @NonNull List<Pos> getAll(@NonNull PosFilter filter) {
+        return posJdbcRepository.findAll(filter, null, null);
+    }
+
+    @Override
+    public @NonNull List<Pos> getPage(@NonNull PosFilter filter, @Nullable Long after, int limit) {
+        // the primary key index is used to seek to the start of the page, so no rows before it are read
+        return posJdbcRepository.findAll(filter, after, limit);
+    }
+
+    @Override
+    public @NonNull List<Pos> search(@NonNull String query, int limit) {
+        return posJdbcRepository.search(query, limit);
+    }
+
+    @Override
+    public void streamAll(@NonNull Consumer<Pos> consumer) {
+        try (Stream<PosEntity> entities = posRepository.streamAllOrderedById()) {
+            entities.forEach(entity -> {
+                consumer.accept(posEntityMapper.fromEntity(entity));
+                // detach mapped entities so that the persistence context does not grow with the result set
+                entityManager.detach(entity);
+            });
+        }
     }
 
     @Override
@@ -47,6 +109,7 @@ class PosDataServiceImpl implements PosDataService {
     }
 
     @Override
+    @Transactional
     public @NonNull Pos upsert(@NonNull Pos pos) {
         // Map POS domain object to entity and save
         try {
@@ -57,15 +120,11 @@ class PosDataServiceImpl implements PosDataService {
                 );
             }
 
-            // Update existing POS
-            PosEntity posEntity = posRepository.findById(pos.id())
+            // Update existing POS with a single UPDATE ... RETURNING statement instead of loading the entity first;
+            // no returned row means that the POS is missing
+            return posJdbcRepository.update(posEntityMapper.toEntity(pos))
+                    .map(posEntityMapper::fromEntity)
                     .orElseThrow(() -> new PosNotFoundException(pos.id()));
-
-            // Use mapper to update entity fields automatically
-            // Note: timestamps are managed by JPA lifecycle callbacks (@PreUpdate)
-            posEntityMapper.updateEntity(pos, posEntity);
-
-            return posEntityMapper.fromEntity(posRepository.saveAndFlush(posEntity));
         } catch (DataIntegrityViolationException e) {
             // Translate database constraint violations to domain exceptions
             // This is the adapter's responsibility in hexagonal architecture
@@ -77,6 +136,98 @@ class PosDataServiceImpl implements PosDataService {
         }
     }
 
+    @Override
+    @Transactional
+    public void delete(@NonNull Long id) throws PosNotFoundException {
+        // a single statement instead of loading the entity first; no deleted row means that the POS is missing
+        if (!posJdbcRepository.delete(id)) {
+            throw new PosNotFoundException(id);
+        }
+    }
+
+    @Override
+    public @NonNull List<Pos> getUpdatedSince(@NonNull LocalDateTime since) {
+        return posJdbcRepository.findUpdatedSince(since);
+    }
+
+    @Override
+    public @NonNull List<Long> getDeletedSince(@NonNull LocalDateTime since) {
+        return posJdbcRepository.findDeletedSince(since);
+    }
+
+    @Override
+    @Transactional
+    public void purgeTombstones(@NonNull LocalDateTime before) {
+        posJdbcRepository.deleteTombstonesBefore(before);
+    }
+
+    @Override
+    @Transactional
+    public @NonNull List<Pos> upsertAll(@NonNull List<Pos> posList) {
+        // Load all entities to update with a single query instead of one query per POS
+        Map<Long, PosEntity> existingEntities = posRepository.findAllById(posList.stream()
+                        .map(Pos::id)
+                        .filter(Objects::nonNull)
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(PosEntity::getId, Function.identity()));
+
+        List<PosEntity> posEntities = new ArrayList<>(posList.size());
+        for (Pos pos : posList) {
+            if (pos.id() == null) {
+                posEntities.add(posEntityMapper.toEntity(pos));
+            } else {
+                PosEntity posEntity = existingEntities.get(pos.id());
+                if (posEntity == null) {
+                    throw new PosNotFoundException(pos.id());
+                }
+                posEntityMapper.updateEntity(pos, posEntity);
+                posEntities.add(posEntity);
+            }
+        }
+
+        try {
+            // IDs come from the pooled sequence allocator and the statements are sent in JDBC batches on flush
+            List<PosEntity> savedEntities = posRepository.saveAll(posEntities);
+            posRepository.flush();
+            return savedEntities.stream()
+                    .map(posEntityMapper::fromEntity)
+                    .toList();
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateNameConstraintViolation(e)) {
+                throw new DuplicatePosNameException(extractDuplicateName(e));
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    @Transactional
+    public @NonNull List<PosUpsertResult> upsertAllByName(@NonNull List<Pos> posList) {
+        // a multi-row statement cannot update the same row twice, so only the last POS with a name is kept
+        Map<String, PosEntity> posEntitiesByName = new LinkedHashMap<>();
+        for (Pos pos : posList) {
+            posEntitiesByName.put(pos.name(), posEntityMapper.toEntity(pos));
+        }
+        return posJdbcRepository.upsertAllByName(List.copyOf(posEntitiesByName.values()));
+    }
+
+    /**
+     * Extracts the duplicate POS name from the detail message of a unique constraint violation.
+     * PostgreSQL reports the conflicting value as {@code Key (name)=(<value>) already exists}.
+     */
+    private static @NonNull String extractDuplicateName(DataIntegrityViolationException e) {
+        Throwable cause = e.getRootCause();
+        String causeMessage = cause != null ? cause.getMessage() : e.getMessage();
+        if (causeMessage != null) {
+            Matcher matcher = DUPLICATE_NAME_PATTERN.matcher(causeMessage);
+            if (matcher.find()) {
+                return matcher.group(1);
+            }
+        }
+        return "<unknown>";
+    }
+
     /**
      * Checks if the exception is due to duplicate POS name constraint violation.
      */
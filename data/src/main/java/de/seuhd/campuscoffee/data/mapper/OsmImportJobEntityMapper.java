@@ -0,0 +1,68 @@
+package de.seuhd.campuscoffee.data.mapper;
+
+import de.seuhd.campuscoffee.data.persistence.OsmImportJobEntity;
+import de.seuhd.campuscoffee.domain.model.BoundingBox;
+import de.seuhd.campuscoffee.domain.model.OsmImportJob;
+import org.mapstruct.*;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+
+/**
+ * MapStruct mapper for converting between OSM import jobs and their JPA entities.
+ * The bounding box is stored as four nullable columns in the entity.
+ */
+@Mapper(componentModel = "spring")
+@ConditionalOnMissingBean // prevent IntelliJ warning about duplicate beans
+public interface OsmImportJobEntityMapper {
+    /**
+     * Converts a JPA entity to a domain model.
+     *
+     * @param source the JPA entity to convert; may be null
+     * @return the domain model, or null if source is null
+     */
+    @Mapping(target = "boundingBox", expression = "java(toBoundingBox(source))")
+    @Mapping(target = "nodeIds", expression = "java(java.util.List.copyOf(source.getNodeIds()))")
+    OsmImportJob fromEntity(OsmImportJobEntity source);
+
+    /**
+     * Converts a domain model to a JPA entity.
+     *
+     * @param source the domain model to convert; may be null
+     * @return the JPA entity, or null if source is null
+     */
+    @Mapping(target = "minLatitude", source = "boundingBox.minLatitude")
+    @Mapping(target = "minLongitude", source = "boundingBox.minLongitude")
+    @Mapping(target = "maxLatitude", source = "boundingBox.maxLatitude")
+    @Mapping(target = "maxLongitude", source = "boundingBox.maxLongitude")
+    OsmImportJobEntity toEntity(OsmImportJob source);
+
+    /**
+     * Updates the status, node IDs and progress of an existing JPA entity.
+     * The ID, the timestamps and the bounding box are preserved.
+     *
+     * @param source the domain model containing the new data; must not be null
+     * @param target the existing JPA entity to update; must not be null
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "minLatitude", ignore = true)
+    @Mapping(target = "minLongitude", ignore = true)
+    @Mapping(target = "maxLatitude", ignore = true)
+    @Mapping(target = "maxLongitude", ignore = true)
+    void updateEntity(OsmImportJob source, @MappingTarget OsmImportJobEntity target);
+
+    /**
+     * Combines the bounding box columns of an entity.
+     *
+     * @param source the JPA entity
+     * @return the bounding box, or null if the job was submitted with node IDs
+     */
+    @SuppressWarnings("unused")
+    default BoundingBox toBoundingBox(OsmImportJobEntity source) {
+        if (source.getMinLatitude() == null) {
+            return null;
+        }
+        return new BoundingBox(source.getMinLatitude(), source.getMinLongitude(),
+                source.getMaxLatitude(), source.getMaxLongitude());
+    }
+}
@@ -0,0 +1,51 @@
+package de.seuhd.campuscoffee.data.mapper;
+
+import de.seuhd.campuscoffee.domain.model.CampusType;
+import de.seuhd.campuscoffee.domain.model.Pos;
+import de.seuhd.campuscoffee.domain.model.PosType;
+import org.jspecify.annotations.NonNull;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+
+/**
+ * Maps rows of the {@code pos} table directly to {@link Pos} domain objects.
+ * This is the projection counterpart of {@link PosEntityMapper#fromEntity}: list reads skip the JPA entities,
+ * so no managed entity, embedded address or dirty-checking snapshot is created per row.
+ * <p>
+ * The result set must contain all columns of the {@code pos} table under their column names.
+ * House numbers are merged like in {@link PosEntityMapper#mergeHouseNumber} (e.g., 21 and 'a' become "21a").
+ */
+public final class PosRowMapper implements RowMapper<Pos> {
+    public static final PosRowMapper INSTANCE = new PosRowMapper();
+
+    private PosRowMapper() {}
+
+    @Override
+    public @NonNull Pos mapRow(@NonNull ResultSet resultSet, int rowNum) throws SQLException {
+        return new Pos(
+                resultSet.getLong("id"),
+                resultSet.getObject("created_at", LocalDateTime.class),
+                resultSet.getObject("updated_at", LocalDateTime.class),
+                resultSet.getString("name"),
+                resultSet.getString("description"),
+                PosType.valueOf(resultSet.getString("type")),
+                CampusType.valueOf(resultSet.getString("campus")),
+                resultSet.getString("street"),
+                mergeHouseNumber(resultSet.getObject("house_number", Integer.class), resultSet.getString("house_number_suffix")),
+                resultSet.getObject("postal_code", Integer.class),
+                resultSet.getString("city"),
+                resultSet.getObject("latitude", Double.class),
+                resultSet.getObject("longitude", Double.class)
+        );
+    }
+
+    private static String mergeHouseNumber(Integer houseNumber, String suffix) {
+        if (houseNumber == null) {
+            return null;
+        }
+        return suffix == null ? houseNumber.toString() : houseNumber + suffix;
+    }
+}
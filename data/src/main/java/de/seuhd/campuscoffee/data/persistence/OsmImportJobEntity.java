@@ -0,0 +1,87 @@
+package de.seuhd.campuscoffee.data.persistence;
+
+import de.seuhd.campuscoffee.domain.model.OsmImportJobStatus;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Database entity for an asynchronous OSM import job.
+ * Progress updates only write the changed columns, so that the node IDs are not rewritten on every checkpoint.
+ */
+@Entity
+@DynamicUpdate
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "osm_import_job")
+public class OsmImportJobEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "osm_import_job_sequence_generator")
+    @SequenceGenerator(name = "osm_import_job_sequence_generator", sequenceName = "osm_import_job_seq", allocationSize = 1)
+    private Long id;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Enumerated(EnumType.STRING)
+    private OsmImportJobStatus status;
+
+    // the bounding box columns are either all set or all null
+    @Column(name = "min_latitude")
+    private Double minLatitude;
+
+    @Column(name = "min_longitude")
+    private Double minLongitude;
+
+    @Column(name = "max_latitude")
+    private Double maxLatitude;
+
+    @Column(name = "max_longitude")
+    private Double maxLongitude;
+
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "node_ids")
+    private List<Long> nodeIds = new ArrayList<>();
+
+    @Column(name = "processed_count")
+    private int processedCount;
+
+    @Column(name = "imported_count")
+    private int importedCount;
+
+    @Column(name = "failed_count")
+    private int failedCount;
+
+    private String message;
+
+    /**
+     * JPA lifecycle callback: set timestamps before persisting a new entity.
+     */
+    @PrePersist
+    protected void onCreate() {
+        LocalDateTime now = LocalDateTime.now(ZoneId.of("UTC")).truncatedTo(ChronoUnit.MICROS);
+        createdAt = now;
+        updatedAt = now;
+    }
+
+    /**
+     * JPA lifecycle callback: update timestamp before updating an existing entity.
+     */
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now(ZoneId.of("UTC")).truncatedTo(ChronoUnit.MICROS);
+    }
+}
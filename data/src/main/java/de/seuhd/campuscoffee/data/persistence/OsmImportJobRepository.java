@@ -0,0 +1,20 @@
+package de.seuhd.campuscoffee.data.persistence;
+
+import de.seuhd.campuscoffee.domain.model.OsmImportJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository for persisting OSM import job entities.
+ */
+public interface OsmImportJobRepository extends JpaRepository<OsmImportJobEntity, Long> {
+    /**
+     * Retrieves the jobs with one of the given statuses, ordered by ID.
+     *
+     * @param statuses the statuses to match
+     * @return the matching jobs ordered by ID
+     */
+    List<OsmImportJobEntity> findByStatusInOrderByIdAsc(Collection<OsmImportJobStatus> statuses);
+}
@@ -7,6 +7,7 @@ import lombok.*;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
 
 /**
  * Database entity for a point-of-sale (POS).
@@ -18,9 +19,11 @@ import java.time.ZoneId;
 @AllArgsConstructor
 @Table(name = "pos")
 public class PosEntity {
+    // IDs are allocated in blocks of 50 (pooled-lo optimizer), so inserts need only one sequence call per block;
+    // the allocation size must match the increment of pos_seq
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pos_sequence_generator")
-    @SequenceGenerator(name = "pos_sequence_generator", sequenceName = "pos_seq", allocationSize = 1)
+    @SequenceGenerator(name = "pos_sequence_generator", sequenceName = "pos_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "created_at")
@@ -43,13 +46,18 @@ public class PosEntity {
     @Embedded
     private AddressEntity address;
 
+    private Double latitude;
+
+    private Double longitude;
+
     /**
      * JPA lifecycle callback: set timestamps before persisting a new entity.
      * This ensures timestamps reflect actual database operation time.
      */
     @PrePersist
     protected void onCreate() {
-        LocalDateTime now = LocalDateTime.now(ZoneId.of("UTC"));
+        // truncated to the precision of the database, so that returned entities match the stored timestamps (ETags)
+        LocalDateTime now = LocalDateTime.now(ZoneId.of("UTC")).truncatedTo(ChronoUnit.MICROS);
         createdAt = now;
         updatedAt = now;
     }
@@ -60,6 +68,6 @@ public class PosEntity {
      */
     @PreUpdate
     protected void onUpdate() {
-        updatedAt = LocalDateTime.now(ZoneId.of("UTC"));
+        updatedAt = LocalDateTime.now(ZoneId.of("UTC")).truncatedTo(ChronoUnit.MICROS);
     }
 }
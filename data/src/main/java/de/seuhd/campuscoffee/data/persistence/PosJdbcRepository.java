@@ -0,0 +1,335 @@
+package de.seuhd.campuscoffee.data.persistence;
+
+import de.seuhd.campuscoffee.data.mapper.PosRowMapper;
+import de.seuhd.campuscoffee.domain.model.CampusType;
+import de.seuhd.campuscoffee.domain.model.Pos;
+import de.seuhd.campuscoffee.domain.model.PosFilter;
+import de.seuhd.campuscoffee.domain.model.PosType;
+import de.seuhd.campuscoffee.domain.model.PosUpsertResult;
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for POS operations that are executed as native SQL statements instead of through JPA,
+ * because they use PostgreSQL-specific features or read lists of POS without the overhead of managed entities.
+ * Statements bypass the persistence context, so entities returned by this repository are not managed.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PosJdbcRepository {
+    private static final String POS_COLUMNS = """
+            id, created_at, updated_at, name, description, type, campus,
+            street, house_number, house_number_suffix, postal_code, city, latitude, longitude
+            """;
+
+    /**
+     * The number of IDs reserved by a call of {@code nextval('pos_seq')}; must match the increment of the sequence
+     * (see {@code V2__pos_seq_pooled_allocation.sql}) and the allocation size of {@link PosEntity}.
+     */
+    private static final int ID_BLOCK_SIZE = 50;
+
+    /**
+     * The maximum number of rows written by a single multi-row statement, which keeps the number of bind
+     * parameters below the limit of the PostgreSQL protocol.
+     */
+    private static final int MAX_ROWS_PER_STATEMENT = 1000;
+
+    private static final String UPDATE_SQL = """
+            UPDATE pos SET
+                updated_at = :now,
+                name = :name,
+                description = :description,
+                type = :type,
+                campus = :campus,
+                street = :street,
+                house_number = :houseNumber,
+                house_number_suffix = :houseNumberSuffix,
+                postal_code = :postalCode,
+                city = :city,
+                latitude = :latitude,
+                longitude = :longitude
+            WHERE id = :id
+            RETURNING %s
+            """.formatted(POS_COLUMNS);
+
+    private static final String UPSERT_BY_NAME_SQL = """
+            INSERT INTO pos (id, created_at, updated_at, name, description, type, campus,
+                             street, house_number, house_number_suffix, postal_code, city, latitude, longitude)
+            VALUES %s
+            ON CONFLICT (name) DO UPDATE SET
+                updated_at = EXCLUDED.updated_at,
+                description = EXCLUDED.description,
+                type = EXCLUDED.type,
+                campus = EXCLUDED.campus,
+                street = EXCLUDED.street,
+                house_number = EXCLUDED.house_number,
+                house_number_suffix = EXCLUDED.house_number_suffix,
+                postal_code = EXCLUDED.postal_code,
+                city = EXCLUDED.city,
+                latitude = EXCLUDED.latitude,
+                longitude = EXCLUDED.longitude
+            RETURNING %s, xmax = 0 AS inserted
+            """;
+
+    private static final String UPSERT_BY_NAME_ROW = """
+            (:id%1$d, :now, :now, :name%1$d, :description%1$d, :type%1$d, :campus%1$d, :street%1$d, :houseNumber%1$d,
+             :houseNumberSuffix%1$d, :postalCode%1$d, :city%1$d, :latitude%1$d, :longitude%1$d)""";
+
+    // <% and ILIKE are both supported by the trigram GIN indexes (see V5__add_pos_search_indexes.sql)
+    private static final String SEARCH_SQL = """
+            SELECT %s
+            FROM pos
+            WHERE :query <% name OR :query <% description
+               OR name ILIKE :prefix OR name ILIKE :wordPrefix
+            ORDER BY (name ILIKE :prefix OR name ILIKE :wordPrefix) DESC,
+                     GREATEST(word_similarity(:query, name), 0.5 * word_similarity(:query, description)) DESC,
+                     id
+            LIMIT :limit
+            """.formatted(POS_COLUMNS);
+
+    // deleted rows are recorded as tombstones in the same statement
+    private static final String DELETE_SQL = """
+            WITH deleted AS (DELETE FROM pos %s RETURNING id)
+            INSERT INTO pos_tombstone (pos_id, deleted_at)
+            SELECT id, :now FROM deleted
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Updates a POS entity with a single {@code UPDATE ... RETURNING} statement instead of loading it first.
+     * The creation timestamp is preserved; the update timestamp is set to the current time (UTC), like the JPA
+     * lifecycle callbacks of {@link PosEntity} do. If no row with the ID exists, nothing is written, so the
+     * name constraint cannot be violated by a POS that does not exist.
+     *
+     * @param posEntity the entity to write; its ID must be set
+     * @return the row as stored in the database; empty if no POS with the ID exists
+     */
+    public @NonNull Optional<PosEntity> update(@NonNull PosEntity posEntity) {
+        AddressEntity address = posEntity.getAddress();
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("id", posEntity.getId())
+                .addValue("now", LocalDateTime.now(ZoneId.of("UTC")).truncatedTo(ChronoUnit.MICROS))
+                .addValue("name", posEntity.getName())
+                .addValue("description", posEntity.getDescription())
+                .addValue("type", posEntity.getType().name())
+                .addValue("campus", posEntity.getCampus().name())
+                .addValue("street", address.getStreet())
+                .addValue("houseNumber", address.getHouseNumber())
+                .addValue("houseNumberSuffix", address.getHouseNumberSuffix() == null
+                        ? null : address.getHouseNumberSuffix().toString())
+                .addValue("postalCode", address.getPostalCode())
+                .addValue("city", address.getCity())
+                .addValue("latitude", posEntity.getLatitude())
+                .addValue("longitude", posEntity.getLongitude());
+
+        return jdbcTemplate.query(UPDATE_SQL, parameters, (resultSet, rowNum) -> mapRow(resultSet))
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * Inserts or updates POS entities identified by their name with multi-row
+     * {@code INSERT ... ON CONFLICT (name) DO UPDATE ... RETURNING} statements.
+     * IDs of the entities are ignored; IDs of inserted rows are taken from blocks reserved from {@code pos_seq}, so
+     * they never collide with IDs allocated by Hibernate. IDs reserved for rows that turn out to be updates are skipped.
+     * The creation timestamp of an existing row is preserved. Whether a row was inserted is read from its system
+     * column {@code xmax}, which is 0 for a row version created by an insert and set by the update of a conflicting row.
+     *
+     * @param posEntities the entities to write; names must be distinct
+     * @return the rows as stored in the database with whether they were inserted, in no particular order
+     */
+    public @NonNull List<PosUpsertResult> upsertAllByName(@NonNull List<PosEntity> posEntities) {
+        List<PosUpsertResult> result = new ArrayList<>(posEntities.size());
+        for (int start = 0; start < posEntities.size(); start += MAX_ROWS_PER_STATEMENT) {
+            List<PosEntity> rows = posEntities.subList(start, Math.min(start + MAX_ROWS_PER_STATEMENT, posEntities.size()));
+            List<Long> idBlocks = jdbcTemplate.queryForList(
+                    "SELECT nextval('pos_seq') FROM generate_series(1, :blocks)",
+                    new MapSqlParameterSource("blocks", (rows.size() + ID_BLOCK_SIZE - 1) / ID_BLOCK_SIZE),
+                    Long.class);
+
+            MapSqlParameterSource parameters = new MapSqlParameterSource()
+                    .addValue("now", LocalDateTime.now(ZoneId.of("UTC")).truncatedTo(ChronoUnit.MICROS));
+            List<String> values = new ArrayList<>(rows.size());
+            for (int i = 0; i < rows.size(); i++) {
+                PosEntity posEntity = rows.get(i);
+                AddressEntity address = posEntity.getAddress();
+                values.add(UPSERT_BY_NAME_ROW.formatted(i));
+                parameters.addValue("id" + i, idBlocks.get(i / ID_BLOCK_SIZE) + i % ID_BLOCK_SIZE)
+                        .addValue("name" + i, posEntity.getName())
+                        .addValue("description" + i, posEntity.getDescription())
+                        .addValue("type" + i, posEntity.getType().name())
+                        .addValue("campus" + i, posEntity.getCampus().name())
+                        .addValue("street" + i, address.getStreet())
+                        .addValue("houseNumber" + i, address.getHouseNumber())
+                        .addValue("houseNumberSuffix" + i, address.getHouseNumberSuffix() == null
+                                ? null : address.getHouseNumberSuffix().toString())
+                        .addValue("postalCode" + i, address.getPostalCode())
+                        .addValue("city" + i, address.getCity())
+                        .addValue("latitude" + i, posEntity.getLatitude(), Types.DOUBLE)
+                        .addValue("longitude" + i, posEntity.getLongitude(), Types.DOUBLE);
+            }
+            result.addAll(jdbcTemplate.query(UPSERT_BY_NAME_SQL.formatted(String.join(",\n", values), POS_COLUMNS),
+                    parameters, (resultSet, rowNum) -> new PosUpsertResult(
+                            PosRowMapper.INSTANCE.mapRow(resultSet, rowNum), resultSet.getBoolean("inserted"))));
+        }
+        return result;
+    }
+
+    /**
+     * Deletes the POS with the given ID and records a tombstone for it (see {@code V8__create_pos_tombstone_table.sql}).
+     *
+     * @param id the ID of the POS to delete
+     * @return true if the POS existed and has been deleted
+     */
+    public boolean delete(long id) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("id", id)
+                .addValue("now", LocalDateTime.now(ZoneId.of("UTC")).truncatedTo(ChronoUnit.MICROS));
+        return jdbcTemplate.update(DELETE_SQL.formatted("WHERE id = :id"), parameters) > 0;
+    }
+
+    /**
+     * Deletes all POS and records a tombstone for each of them.
+     *
+     * @return the number of deleted POS
+     */
+    public int deleteAll() {
+        return jdbcTemplate.update(DELETE_SQL.formatted(""),
+                new MapSqlParameterSource("now", LocalDateTime.now(ZoneId.of("UTC")).truncatedTo(ChronoUnit.MICROS)));
+    }
+
+    /**
+     * Retrieves the POS that have been created or updated after the given time, using the index on {@code updated_at}.
+     *
+     * @param since the exclusive lower bound for the update timestamp (UTC)
+     * @return the matching POS ordered by update timestamp and ID
+     */
+    public @NonNull List<Pos> findUpdatedSince(@NonNull LocalDateTime since) {
+        return jdbcTemplate.query("SELECT " + POS_COLUMNS + " FROM pos WHERE updated_at > :since ORDER BY updated_at, id",
+                new MapSqlParameterSource("since", since), PosRowMapper.INSTANCE);
+    }
+
+    /**
+     * Retrieves the IDs of the POS that have been deleted after the given time.
+     *
+     * @param since the exclusive lower bound for the deletion timestamp (UTC)
+     * @return the IDs of the deleted POS ordered by deletion timestamp and ID
+     */
+    public @NonNull List<Long> findDeletedSince(@NonNull LocalDateTime since) {
+        return jdbcTemplate.queryForList(
+                "SELECT pos_id FROM pos_tombstone WHERE deleted_at > :since ORDER BY deleted_at, pos_id",
+                new MapSqlParameterSource("since", since), Long.class);
+    }
+
+    /**
+     * Deletes the tombstones of POS that have been deleted before the given time.
+     *
+     * @param before the exclusive upper bound for the deletion timestamp (UTC)
+     * @return the number of deleted tombstones
+     */
+    public int deleteTombstonesBefore(@NonNull LocalDateTime before) {
+        return jdbcTemplate.update("DELETE FROM pos_tombstone WHERE deleted_at < :before",
+                new MapSqlParameterSource("before", before));
+    }
+
+    /**
+     * Retrieves the POS that match the given filter, ordered by ID, mapped directly from the result set.
+     * The filter columns are covered by the indexes created in {@code V4__add_pos_filter_indexes.sql}.
+     *
+     * @param filter the filter criteria
+     * @param after  the exclusive lower bound for the ID (keyset pagination); null for no lower bound
+     * @param limit  the maximum number of rows to return; null for no limit
+     * @return the matching POS ordered by ID
+     */
+    public @NonNull List<Pos> findAll(@NonNull PosFilter filter, @Nullable Long after, @Nullable Integer limit) {
+        List<String> conditions = new ArrayList<>();
+        MapSqlParameterSource parameters = new MapSqlParameterSource();
+        if (filter.campus() != null) {
+            conditions.add("campus = :campus");
+            parameters.addValue("campus", filter.campus().name());
+        }
+        if (filter.type() != null) {
+            conditions.add("type = :type");
+            parameters.addValue("type", filter.type().name());
+        }
+        if (filter.city() != null) {
+            conditions.add("city = :city");
+            parameters.addValue("city", filter.city());
+        }
+        if (filter.postalCode() != null) {
+            conditions.add("postal_code = :postalCode");
+            parameters.addValue("postalCode", filter.postalCode());
+        }
+        if (after != null) {
+            conditions.add("id > :after");
+            parameters.addValue("after", after);
+        }
+
+        StringBuilder sql = new StringBuilder("SELECT ").append(POS_COLUMNS).append(" FROM pos");
+        if (!conditions.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", conditions));
+        }
+        sql.append(" ORDER BY id");
+        if (limit != null) {
+            sql.append(" LIMIT :limit");
+            parameters.addValue("limit", limit);
+        }
+        return jdbcTemplate.query(sql.toString(), parameters, PosRowMapper.INSTANCE);
+    }
+
+    /**
+     * Searches POS by trigram word similarity of their name or description to the query
+     * (see the {@code pg_trgm} extension). POS with a word in their name that starts with the query are ranked first.
+     *
+     * @param query the search query
+     * @param limit the maximum number of rows to return
+     * @return the matching POS ordered by descending relevance
+     */
+    public @NonNull List<Pos> search(@NonNull String query, int limit) {
+        String escapedQuery = query.replaceAll("[\\\\%_]", "\\\\$0");
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("query", query)
+                .addValue("prefix", escapedQuery + "%")
+                .addValue("wordPrefix", "% " + escapedQuery + "%")
+                .addValue("limit", limit);
+        return jdbcTemplate.query(SEARCH_SQL, parameters, PosRowMapper.INSTANCE);
+    }
+
+    private static PosEntity mapRow(ResultSet resultSet) throws SQLException {
+        AddressEntity address = new AddressEntity();
+        address.setStreet(resultSet.getString("street"));
+        address.setHouseNumber(resultSet.getObject("house_number", Integer.class));
+        String houseNumberSuffix = resultSet.getString("house_number_suffix");
+        address.setHouseNumberSuffix(houseNumberSuffix == null ? null : houseNumberSuffix.charAt(0));
+        address.setPostalCode(resultSet.getObject("postal_code", Integer.class));
+        address.setCity(resultSet.getString("city"));
+
+        return new PosEntity(
+                resultSet.getLong("id"),
+                resultSet.getObject("created_at", LocalDateTime.class),
+                resultSet.getObject("updated_at", LocalDateTime.class),
+                resultSet.getString("name"),
+                resultSet.getString("description"),
+                PosType.valueOf(resultSet.getString("type")),
+                CampusType.valueOf(resultSet.getString("campus")),
+                address,
+                resultSet.getObject("latitude", Double.class),
+                resultSet.getObject("longitude", Double.class)
+        );
+    }
+}
@@ -1,16 +1,40 @@
 package de.seuhd.campuscoffee.data.persistence;
 
-import jakarta.transaction.Transactional;
+import de.seuhd.campuscoffee.domain.model.PosCatalogVersion;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.stream.Stream;
 
 /**
  * Repository for persisting point-of-sale (POS) entities.
  */
 public interface PosRepository extends JpaRepository<PosEntity, Long> {
-    @Modifying
-    @Transactional
-    @Query(value = "ALTER SEQUENCE pos_seq RESTART WITH 1", nativeQuery = true)
-    void resetSequence();
+    /**
+     * Retrieves the number of POS entities and their latest update timestamp.
+     * The maximum is read from the index on {@code updated_at} (see {@code V6__add_pos_updated_at_index.sql}).
+     *
+     * @return the catalog version
+     */
+    @Query("SELECT new de.seuhd.campuscoffee.domain.model.PosCatalogVersion(count(p), max(p.updatedAt)) FROM PosEntity p")
+    PosCatalogVersion findCatalogVersion();
+
+    /**
+     * Streams all POS entities ordered by ID.
+     * The fetch size hint makes the PostgreSQL driver use a server-side cursor, so rows are
+     * transferred in chunks instead of being buffered completely. Must be called within a transaction
+     * and the returned stream must be closed after use.
+     *
+     * @return a stream of all POS entities ordered by ID
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p FROM PosEntity p ORDER BY p.id")
+    Stream<PosEntity> streamAllOrderedById();
+
 }
@@ -0,0 +1,3 @@
+-- Hibernate allocates POS IDs in blocks of 50 using the pooled-lo optimizer.
+-- The sequence increment must match the allocation size of the entity's sequence generator.
+ALTER SEQUENCE pos_seq INCREMENT BY 50;
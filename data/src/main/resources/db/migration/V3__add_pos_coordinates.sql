@@ -0,0 +1,5 @@
+-- Coordinates (WGS 84) of a POS; both are null if the location is unknown.
+ALTER TABLE pos
+    ADD COLUMN latitude double precision CHECK (latitude BETWEEN -90 AND 90),
+    ADD COLUMN longitude double precision CHECK (longitude BETWEEN -180 AND 180),
+    ADD CONSTRAINT pos_coordinates_check CHECK ((latitude IS NULL) = (longitude IS NULL));
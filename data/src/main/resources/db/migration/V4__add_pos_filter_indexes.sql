@@ -0,0 +1,6 @@
+-- Indexes for filtered POS lists (GET /api/pos?campus=&type=&city=&postalCode=).
+-- The trailing id column lets keyset-paginated queries (id > ? ORDER BY id) read matching rows in order.
+CREATE INDEX pos_campus_type_idx ON pos (campus, type, id);
+CREATE INDEX pos_type_idx ON pos (type, id);
+CREATE INDEX pos_postal_code_idx ON pos (postal_code, id);
+CREATE INDEX pos_city_idx ON pos (city, id);
@@ -0,0 +1,6 @@
+-- Trigram indexes for the POS search (GET /api/pos/search?q=).
+-- GIN indexes with gin_trgm_ops support the word similarity operator (<%) and ILIKE prefix patterns.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX pos_name_trgm_idx ON pos USING gin (name gin_trgm_ops);
+CREATE INDEX pos_description_trgm_idx ON pos USING gin (description gin_trgm_ops);
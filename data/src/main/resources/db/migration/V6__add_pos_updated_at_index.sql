@@ -0,0 +1,2 @@
+-- Index for the catalog version (max(updated_at)) that validates cached POS lists via ETag / Last-Modified.
+CREATE INDEX pos_updated_at_idx ON pos (updated_at);
@@ -0,0 +1,21 @@
+-- Asynchronous OSM import jobs (POST /api/pos/import/jobs); processed_count is the checkpoint for resuming a job.
+CREATE SEQUENCE osm_import_job_seq START WITH 1 INCREMENT BY 1;
+
+CREATE TABLE osm_import_job (
+    id bigint NOT NULL PRIMARY KEY,
+    created_at timestamp NOT NULL,
+    updated_at timestamp NOT NULL,
+    status varchar(255) NOT NULL CHECK (status IN ('QUEUED', 'RUNNING', 'COMPLETED', 'FAILED')),
+    min_latitude double precision,
+    min_longitude double precision,
+    max_latitude double precision,
+    max_longitude double precision,
+    node_ids bigint[] NOT NULL,
+    processed_count integer NOT NULL DEFAULT 0,
+    imported_count integer NOT NULL DEFAULT 0,
+    failed_count integer NOT NULL DEFAULT 0,
+    message text
+);
+
+-- unfinished jobs are looked up on every start
+CREATE INDEX osm_import_job_status_idx ON osm_import_job (status);
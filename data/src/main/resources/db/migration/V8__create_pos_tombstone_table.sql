@@ -0,0 +1,8 @@
+-- Tombstones of deleted POS for delta sync (GET /api/pos?updatedSince=...), which reads updated POS via pos_updated_at_idx.
+-- Tombstones older than the retention period (campus-coffee.pos.sync.tombstone-retention) are purged.
+CREATE TABLE pos_tombstone (
+    pos_id bigint NOT NULL PRIMARY KEY,
+    deleted_at timestamp NOT NULL
+);
+
+CREATE INDEX pos_tombstone_deleted_at_idx ON pos_tombstone (deleted_at);
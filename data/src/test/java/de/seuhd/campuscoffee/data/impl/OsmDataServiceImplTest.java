@@ -0,0 +1,300 @@
+package de.seuhd.campuscoffee.data.impl;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import de.seuhd.campuscoffee.data.config.OsmCacheProperties;
+import de.seuhd.campuscoffee.data.config.OsmClientProperties;
+import de.seuhd.campuscoffee.domain.exceptions.OsmNodeNotFoundException;
+import de.seuhd.campuscoffee.domain.exceptions.OsmServiceUnavailableException;
+import de.seuhd.campuscoffee.domain.model.BoundingBox;
+import de.seuhd.campuscoffee.domain.model.OsmNode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for the OSM data service against a local stub of the OSM API.
+ */
+public class OsmDataServiceImplTest {
+    private static final Set<Long> EXISTING_NODE_IDS = Set.of(1L, 2L, 3L, 4L, 5L);
+    // fast retries and a circuit breaker that opens after three consecutive failures
+    private static final OsmClientProperties CLIENT_PROPERTIES = new OsmClientProperties(
+            1000, 100, 2, Duration.ofMillis(1), Duration.ofSeconds(5), 3, Duration.ofHours(1));
+
+    private HttpServer server;
+    private final List<String> requestedUris = new CopyOnWriteArrayList<>();
+    private final List<String> conditionalRequestUris = new CopyOnWriteArrayList<>();
+    // error statuses returned by the stub before it answers single fetches normally
+    private final Queue<Integer> failureStatuses = new ConcurrentLinkedQueue<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @TempDir
+    private Path cacheDirectory;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/api/0.6/node/", this::handleSingleFetch);
+        server.createContext("/api/0.6/nodes", this::handleMultiFetch);
+        server.createContext("/api/0.6/map", this::handleMapFetch);
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void fetchNode() {
+        OsmNode node = createService(4000).fetchNode(2L);
+
+        assertThat(node.nodeId()).isEqualTo(2L);
+        assertThat(node.name()).isEqualTo("Cafe 2");
+        assertThat(node.latitude()).isEqualTo(49.41);
+        assertThat(node.street()).isEqualTo("Hauptstraße");
+    }
+
+    @Test
+    void fetchMissingNode() {
+        assertThatThrownBy(() -> createService(4000).fetchNode(42L))
+                .isInstanceOf(OsmNodeNotFoundException.class);
+    }
+
+    @Test
+    void fetchNodesWithSingleRequest() {
+        Map<Long, OsmNode> nodes = createService(4000).fetchNodes(List.of(1L, 2L, 3L));
+
+        assertThat(nodes).containsOnlyKeys(1L, 2L, 3L);
+        assertThat(nodes.get(3L).name()).isEqualTo("Cafe 3");
+        assertThat(requestedUris).containsExactly("/api/0.6/nodes?nodes=1,2,3");
+        assertThat(meterRegistry.timer("campuscoffee.osm.parse").count()).isEqualTo(1);
+    }
+
+    @Test
+    void fetchNodesSplitsLongUrls() {
+        // the prefix of the multi-fetch URL plus two single-digit IDs fit into the limit, three do not
+        OsmDataServiceImpl service = createService(baseUrl().length() + "/nodes?nodes=1,2".length());
+
+        Map<Long, OsmNode> nodes = service.fetchNodes(List.of(1L, 2L, 3L, 4L, 5L));
+
+        assertThat(nodes).containsOnlyKeys(1L, 2L, 3L, 4L, 5L);
+        assertThat(requestedUris).containsExactly(
+                "/api/0.6/nodes?nodes=1,2",
+                "/api/0.6/nodes?nodes=3,4",
+                "/api/0.6/nodes?nodes=5");
+    }
+
+    @Test
+    void fetchNodesSkipsMissingNodes() {
+        Map<Long, OsmNode> nodes = createService(4000).fetchNodes(List.of(1L, 42L, 2L, 3L));
+
+        assertThat(nodes).containsOnlyKeys(1L, 2L, 3L);
+    }
+
+    @Test
+    void fetchNodeFromCache() {
+        OsmDataServiceImpl service = createService(4000, new OsmCacheProperties(true, cacheDirectory, Duration.ofHours(1)));
+
+        OsmNode fetchedNode = service.fetchNode(2L);
+        OsmNode cachedNode = service.fetchNode(2L);
+
+        assertThat(cachedNode).isEqualTo(fetchedNode);
+        assertThat(cachedNode.version()).isEqualTo(1L);
+        assertThat(requestedUris).containsExactly("/api/0.6/node/2");
+    }
+
+    @Test
+    void fetchNodesFromCache() {
+        OsmDataServiceImpl service = createService(4000, new OsmCacheProperties(true, cacheDirectory, Duration.ofHours(1)));
+
+        service.fetchNode(2L);
+        Map<Long, OsmNode> nodes = service.fetchNodes(List.of(1L, 2L, 3L));
+
+        assertThat(nodes).containsOnlyKeys(1L, 2L, 3L);
+        assertThat(requestedUris).containsExactly("/api/0.6/node/2", "/api/0.6/nodes?nodes=1,3");
+    }
+
+    @Test
+    void revalidateStaleNodeWithEtag() {
+        // a TTL of zero makes every cached node stale immediately
+        OsmDataServiceImpl service = createService(4000, new OsmCacheProperties(true, cacheDirectory, Duration.ZERO));
+
+        OsmNode fetchedNode = service.fetchNode(2L);
+        OsmNode revalidatedNode = service.fetchNode(2L);
+
+        assertThat(revalidatedNode).isEqualTo(fetchedNode);
+        assertThat(requestedUris).containsExactly("/api/0.6/node/2", "/api/0.6/node/2");
+        assertThat(conditionalRequestUris).containsExactly("/api/0.6/node/2");
+    }
+
+    @Test
+    void refetchedNodesWithUnchangedVersionKeepEtag() {
+        OsmDataServiceImpl service = createService(4000, new OsmCacheProperties(true, cacheDirectory, Duration.ZERO));
+
+        service.fetchNode(2L);
+        service.fetchNodes(List.of(1L, 2L));
+        service.fetchNode(2L);
+
+        assertThat(requestedUris).containsExactly("/api/0.6/node/2", "/api/0.6/nodes?nodes=1,2", "/api/0.6/node/2");
+        assertThat(conditionalRequestUris).containsExactly("/api/0.6/node/2");
+    }
+
+    @Test
+    void fetchNodesInBoundingBoxCachesNamedNodes() {
+        OsmDataServiceImpl service = createService(4000, new OsmCacheProperties(true, cacheDirectory, Duration.ofHours(1)));
+
+        List<OsmNode> nodes = service.fetchNodes(new BoundingBox(49.40, 8.67, 49.42, 8.70));
+
+        assertThat(nodes).extracting(OsmNode::nodeId).containsExactly(1L, 100L, 2L);
+        assertThat(requestedUris).containsExactly("/api/0.6/map?bbox=8.67,49.4,8.7,49.42");
+        // the named nodes are served from the cache afterwards
+        assertThat(service.fetchNodes(List.of(1L, 2L))).containsOnlyKeys(1L, 2L);
+        assertThat(requestedUris).hasSize(1);
+    }
+
+    @Test
+    void retryRateLimitedRequestAfterRetryAfterDelay() {
+        failureStatuses.add(429);
+        OsmDataServiceImpl service = createService(4000);
+
+        long start = System.nanoTime();
+        OsmNode node = service.fetchNode(2L);
+
+        assertThat(node.nodeId()).isEqualTo(2L);
+        assertThat(requestedUris).containsExactly("/api/0.6/node/2", "/api/0.6/node/2");
+        // the stub asks to retry after one second
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofSeconds(1));
+        assertThat(meterRegistry.counter("campuscoffee.osm.retries").count()).isEqualTo(1);
+    }
+
+    @Test
+    void openCircuitBreakerAfterRepeatedServerErrors() {
+        failureStatuses.addAll(List.of(503, 503, 503, 503));
+        OsmDataServiceImpl service = createService(4000);
+
+        // the initial request and two retries fail, which opens the circuit breaker
+        assertThatThrownBy(() -> service.fetchNode(2L)).isInstanceOf(OsmServiceUnavailableException.class);
+        assertThat(requestedUris).hasSize(3);
+
+        // further requests fail fast without reaching the API
+        assertThatThrownBy(() -> service.fetchNodes(List.of(1L, 2L))).isInstanceOf(OsmServiceUnavailableException.class);
+        assertThat(requestedUris).hasSize(3);
+        assertThat(meterRegistry.counter("campuscoffee.osm.rejected").count()).isEqualTo(1);
+    }
+
+    @Test
+    void serveStaleNodeIfServiceUnavailable() {
+        OsmDataServiceImpl service = createService(4000, new OsmCacheProperties(true, cacheDirectory, Duration.ZERO));
+        OsmNode fetchedNode = service.fetchNode(2L);
+        failureStatuses.addAll(List.of(500, 500, 500));
+
+        assertThat(service.fetchNode(2L)).isEqualTo(fetchedNode);
+        assertThat(requestedUris).hasSize(4);
+    }
+
+    private OsmDataServiceImpl createService(int maxUrlLength) {
+        return createService(maxUrlLength, new OsmCacheProperties(false, cacheDirectory, Duration.ZERO));
+    }
+
+    private OsmDataServiceImpl createService(int maxUrlLength, OsmCacheProperties cacheProperties) {
+        return new OsmDataServiceImpl(new RestTemplate(), new OsmApiGuard(CLIENT_PROPERTIES, meterRegistry),
+                new OsmNodeCache(cacheProperties), meterRegistry, baseUrl(), maxUrlLength);
+    }
+
+    private String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort() + "/api/0.6";
+    }
+
+    private void handleSingleFetch(HttpExchange exchange) throws IOException {
+        requestedUris.add(exchange.getRequestURI().toString());
+        String path = exchange.getRequestURI().getPath();
+        long nodeId = Long.parseLong(path.substring(path.lastIndexOf('/') + 1));
+        Integer failureStatus = failureStatuses.poll();
+        if (failureStatus != null) {
+            exchange.getResponseHeaders().add("Retry-After", "1");
+            respond(exchange, failureStatus, "");
+            return;
+        }
+        if (!EXISTING_NODE_IDS.contains(nodeId)) {
+            respond(exchange, 404, "");
+            return;
+        }
+        // nodes never change in this stub, so the ETag only depends on the node ID
+        String etag = "\"" + nodeId + "-1\"";
+        exchange.getResponseHeaders().add("ETag", etag);
+        if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+            conditionalRequestUris.add(exchange.getRequestURI().toString());
+            respond(exchange, 304, "");
+            return;
+        }
+        respond(exchange, 200, "<osm version=\"0.6\">" + nodeXml(nodeId) + "</osm>");
+    }
+
+    private void handleMultiFetch(HttpExchange exchange) throws IOException {
+        requestedUris.add(exchange.getRequestURI().toString());
+        List<Long> nodeIds = Arrays.stream(exchange.getRequestURI().getQuery().replace("nodes=", "").split(","))
+                .map(Long::parseLong)
+                .toList();
+        // like the OSM API, answer with 404 if any of the requested nodes does not exist
+        if (!EXISTING_NODE_IDS.containsAll(nodeIds)) {
+            respond(exchange, 404, "");
+            return;
+        }
+        respond(exchange, 200, "<osm version=\"0.6\">"
+                + nodeIds.stream().map(OsmDataServiceImplTest::nodeXml).collect(Collectors.joining())
+                + "</osm>");
+    }
+
+    private void handleMapFetch(HttpExchange exchange) throws IOException {
+        requestedUris.add(exchange.getRequestURI().toString());
+        // like the OSM API, the map contains untagged nodes and ways besides the named nodes
+        respond(exchange, 200, "<osm version=\"0.6\">"
+                + nodeXml(1L)
+                + "<node id=\"100\" visible=\"true\" version=\"1\" lat=\"49.41\" lon=\"8.69\"/>"
+                + nodeXml(2L)
+                + "<way id=\"200\"><nd ref=\"100\"/><tag k=\"name\" v=\"Hauptstraße\"/></way>"
+                + "</osm>");
+    }
+
+    private static String nodeXml(long nodeId) {
+        return "<node id=\"" + nodeId + "\" visible=\"true\" version=\"1\" lat=\"49.41\" lon=\"8.69\">"
+                + "<tag k=\"name\" v=\"Cafe " + nodeId + "\"/>"
+                + "<tag k=\"amenity\" v=\"cafe\"/>"
+                + "<tag k=\"addr:street\" v=\"Hauptstraße\"/>"
+                + "<tag k=\"addr:housenumber\" v=\"" + nodeId + "\"/>"
+                + "<tag k=\"addr:postcode\" v=\"69117\"/>"
+                + "<tag k=\"addr:city\" v=\"Heidelberg\"/>"
+                + "</node>";
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "text/xml; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package de.seuhd.campuscoffee.domain.config;
+
+import de.seuhd.campuscoffee.domain.model.CampusType;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuration properties for resolving the campus of a location.
+ *
+ * @param polygons     the location of the GeoJSON file with the campus polygons (a Spring resource location)
+ * @param gridCellSize the side length in degrees of the cells of the grid that is precomputed for point lookups
+ * @param fallback     the campus that is assigned to POS whose location is not on any known campus
+ */
+@ConfigurationProperties(prefix = "campus-coffee.campus")
+public record CampusProperties(
+        @DefaultValue("classpath:campuses.geojson") String polygons,
+        @DefaultValue("0.0005") double gridCellSize,
+        @DefaultValue("ALTSTADT") CampusType fallback
+) {}
@@ -0,0 +1,23 @@
+package de.seuhd.campuscoffee.domain.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for asynchronous OSM import jobs.
+ *
+ * @param workers    the number of jobs that are executed concurrently; further jobs wait in a queue
+ * @param batchSize  the number of nodes imported between two progress checkpoints
+ * @param retryDelay the delay after which a job is resumed the first time the OSM API was unavailable; doubles with
+ *                   every further retry, and the OSM API may ask for a longer delay
+ * @param maxRetries the number of consecutive retries after which a job fails if the OSM API is still unavailable
+ */
+@ConfigurationProperties(prefix = "campus-coffee.osm.import.jobs")
+public record OsmImportJobProperties(
+        @DefaultValue("2") int workers,
+        @DefaultValue("200") int batchSize,
+        @DefaultValue("1m") Duration retryDelay,
+        @DefaultValue("5") int maxRetries
+) {}
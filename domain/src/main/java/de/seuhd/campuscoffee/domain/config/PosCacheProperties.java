@@ -0,0 +1,20 @@
+package de.seuhd.campuscoffee.domain.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the in-memory POS cache in the domain layer.
+ *
+ * @param enabled whether POS reads are served from the cache
+ * @param maxSize the maximum number of POS kept in the cache; the least recently used POS are evicted first
+ * @param ttl     the time after which a cached POS (or the cached list of all POS) expires
+ */
+@ConfigurationProperties(prefix = "campus-coffee.cache.pos")
+public record PosCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10000") int maxSize,
+        @DefaultValue("5m") Duration ttl
+) {}
@@ -0,0 +1,15 @@
+package de.seuhd.campuscoffee.domain.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuration properties for the in-memory POS change feed.
+ *
+ * @param capacity the number of most recent changes kept in the feed; consumers that fall further behind
+ *                 have to reload all POS
+ */
+@ConfigurationProperties(prefix = "campus-coffee.changes")
+public record PosChangeFeedProperties(
+        @DefaultValue("10000") int capacity
+) {}
@@ -0,0 +1,10 @@
+package de.seuhd.campuscoffee.domain.exceptions;
+
+/**
+ * Exception thrown when an OSM import job is not found in the database.
+ */
+public class OsmImportJobNotFoundException extends RuntimeException {
+    public OsmImportJobNotFoundException(Long jobId) {
+        super("OSM import job with ID " + jobId + " does not exist.");
+    }
+}
@@ -0,0 +1,30 @@
+package de.seuhd.campuscoffee.domain.exceptions;
+
+import lombok.Getter;
+import org.jspecify.annotations.Nullable;
+
+import java.time.Duration;
+
+/**
+ * Exception thrown when the OpenStreetMap API cannot be reached, keeps failing, or asks clients to back off,
+ * so that the requested data cannot be fetched at the moment.
+ */
+@Getter
+public class OsmServiceUnavailableException extends RuntimeException {
+    /**
+     * The time after which the request may be retried; null if unknown.
+     */
+    private final @Nullable Duration retryAfter;
+
+    /**
+     * Creates an exception for an unavailable OpenStreetMap API.
+     *
+     * @param message    the reason why the API is unavailable
+     * @param retryAfter the time after which the request may be retried; null if unknown
+     * @param cause      the last error returned by the API; null if the request was not sent
+     */
+    public OsmServiceUnavailableException(String message, @Nullable Duration retryAfter, @Nullable Throwable cause) {
+        super("The OpenStreetMap API is currently unavailable: " + message, cause);
+        this.retryAfter = retryAfter;
+    }
+}
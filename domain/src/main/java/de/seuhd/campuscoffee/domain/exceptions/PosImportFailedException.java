@@ -0,0 +1,28 @@
+package de.seuhd.campuscoffee.domain.exceptions;
+
+import lombok.Getter;
+
+/**
+ * Exception thrown when an import of POS from a stream fails because of an invalid POS (see {@code PosService#importAll}).
+ * Since the import is persisted in chunks, the POS imported before the invalid one remain persisted;
+ * the exception reports how many of them there are.
+ */
+@Getter
+public class PosImportFailedException extends IllegalArgumentException {
+    /**
+     * The number of POS at the beginning of the stream that were imported before the error.
+     */
+    private final int importedCount;
+
+    /**
+     * Creates an exception for a failed import.
+     *
+     * @param importedCount the number of POS at the beginning of the stream that were imported before the error
+     * @param cause         the error caused by the invalid POS
+     */
+    public PosImportFailedException(int importedCount, IllegalArgumentException cause) {
+        super(cause.getMessage() + " The first " + importedCount + " POS of the stream were imported before the error"
+                + " and remain persisted; the import can be repeated once the error is fixed.", cause);
+        this.importedCount = importedCount;
+    }
+}
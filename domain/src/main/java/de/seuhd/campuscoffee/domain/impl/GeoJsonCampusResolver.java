@@ -0,0 +1,270 @@
+package de.seuhd.campuscoffee.domain.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.seuhd.campuscoffee.domain.config.CampusProperties;
+import de.seuhd.campuscoffee.domain.model.CampusType;
+import de.seuhd.campuscoffee.domain.ports.CampusResolver;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NonNull;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Campus resolver based on campus polygons loaded from a GeoJSON file (see {@link CampusProperties#polygons()}).
+ * <p>
+ * The file must contain a feature collection with {@code Polygon} or {@code MultiPolygon} features that have a
+ * {@code campus} property with the name of a {@link CampusType}. If polygons overlap, the feature listed first wins.
+ * <p>
+ * On startup, a uniform grid is precomputed over the bounding box of all polygons. Cells that lie completely
+ * inside a polygon are resolved without any geometry test; only cells crossed by a polygon edge keep the
+ * polygons that have to be tested for a point. A lookup therefore takes constant time for most locations.
+ */
+@Slf4j
+@Component
+public class GeoJsonCampusResolver implements CampusResolver {
+    private final double cellSize;
+    private final double minLatitude;
+    private final double minLongitude;
+    private final int rows;
+    private final int columns;
+    private final Cell[] grid;
+
+    public GeoJsonCampusResolver(CampusProperties properties, ResourceLoader resourceLoader, ObjectMapper objectMapper) {
+        this(loadPolygons(properties.polygons(), resourceLoader, objectMapper), properties.gridCellSize());
+    }
+
+    /**
+     * Creates a resolver for the given polygons.
+     *
+     * @param polygons the campus polygons in priority order
+     * @param cellSize the side length of the grid cells in degrees
+     */
+    GeoJsonCampusResolver(@NonNull List<CampusPolygon> polygons, double cellSize) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("The grid cell size must be positive.");
+        }
+        this.cellSize = cellSize;
+        this.minLatitude = polygons.stream().mapToDouble(CampusPolygon::minLatitude).min().orElse(0);
+        this.minLongitude = polygons.stream().mapToDouble(CampusPolygon::minLongitude).min().orElse(0);
+        double maxLatitude = polygons.stream().mapToDouble(CampusPolygon::maxLatitude).max().orElse(0);
+        double maxLongitude = polygons.stream().mapToDouble(CampusPolygon::maxLongitude).max().orElse(0);
+        this.rows = polygons.isEmpty() ? 0 : (int) Math.ceil((maxLatitude - minLatitude) / cellSize) + 1;
+        this.columns = polygons.isEmpty() ? 0 : (int) Math.ceil((maxLongitude - minLongitude) / cellSize) + 1;
+        this.grid = buildGrid(polygons);
+        log.info("Loaded {} campus polygons into a grid of {} x {} cells", polygons.size(), rows, columns);
+    }
+
+    @Override
+    public Optional<CampusType> resolve(double latitude, double longitude) {
+        int row = (int) Math.floor((latitude - minLatitude) / cellSize);
+        int column = (int) Math.floor((longitude - minLongitude) / cellSize);
+        if (row < 0 || row >= rows || column < 0 || column >= columns) {
+            return Optional.empty();
+        }
+        Cell cell = grid[row * columns + column];
+        if (cell.campus() != null) {
+            return Optional.of(cell.campus());
+        }
+        for (CampusPolygon polygon : cell.candidates()) {
+            if (polygon.contains(latitude, longitude)) {
+                return Optional.of(polygon.campus());
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Cell[] buildGrid(List<CampusPolygon> polygons) {
+        Cell[] cells = new Cell[rows * columns];
+        // cells with the same content share a single instance
+        Map<CampusType, Cell> insideCells = new EnumMap<>(CampusType.class);
+        Map<List<CampusPolygon>, Cell> edgeCells = new HashMap<>();
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                double cellMinLatitude = minLatitude + row * cellSize;
+                double cellMinLongitude = minLongitude + column * cellSize;
+                List<CampusPolygon> candidates = new ArrayList<>();
+                CampusType campus = null;
+                for (CampusPolygon polygon : polygons) {
+                    if (polygon.crosses(cellMinLatitude, cellMinLongitude, cellSize)) {
+                        candidates.add(polygon);
+                    } else if (polygon.contains(cellMinLatitude + cellSize / 2, cellMinLongitude + cellSize / 2)) {
+                        // the cell lies completely inside the polygon; polygons with lower priority are irrelevant
+                        if (candidates.isEmpty()) {
+                            campus = polygon.campus();
+                        } else {
+                            candidates.add(polygon);
+                        }
+                        break;
+                    }
+                }
+                cells[row * columns + column] = campus != null
+                        ? insideCells.computeIfAbsent(campus, key -> new Cell(key, List.of()))
+                        : edgeCells.computeIfAbsent(List.copyOf(candidates), key -> new Cell(null, key));
+            }
+        }
+        return cells;
+    }
+
+    private static List<CampusPolygon> loadPolygons(String location, ResourceLoader resourceLoader, ObjectMapper objectMapper) {
+        try (InputStream inputStream = resourceLoader.getResource(location).getInputStream()) {
+            return parsePolygons(objectMapper.readTree(inputStream));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load campus polygons from " + location, e);
+        }
+    }
+
+    /**
+     * Parses the campus polygons of a GeoJSON feature collection.
+     *
+     * @param featureCollection the GeoJSON feature collection
+     * @return the campus polygons in the order of the features
+     */
+    static @NonNull List<CampusPolygon> parsePolygons(@NonNull JsonNode featureCollection) {
+        List<CampusPolygon> polygons = new ArrayList<>();
+        for (JsonNode feature : featureCollection.path("features")) {
+            CampusType campus = CampusType.valueOf(feature.path("properties").path("campus").asText());
+            JsonNode geometry = feature.path("geometry");
+            switch (geometry.path("type").asText()) {
+                case "Polygon" -> polygons.add(CampusPolygon.of(campus, geometry.path("coordinates")));
+                case "MultiPolygon" -> geometry.path("coordinates")
+                        .forEach(coordinates -> polygons.add(CampusPolygon.of(campus, coordinates)));
+                default -> throw new IllegalArgumentException(
+                        "Unsupported geometry type for campus " + campus + ": " + geometry.path("type").asText());
+            }
+        }
+        return polygons;
+    }
+
+    /**
+     * A cell of the precomputed grid.
+     *
+     * @param campus     the campus if the cell lies completely inside its polygon; null otherwise
+     * @param candidates the polygons that have to be tested in order if the campus is null
+     */
+    private record Cell(CampusType campus, List<CampusPolygon> candidates) {}
+
+    /**
+     * A polygon of a campus with optional holes.
+     * Rings are stored as flat arrays of alternating longitude and latitude values, as in GeoJSON.
+     *
+     * @param campus the campus
+     * @param rings  the outer ring followed by the holes
+     */
+    record CampusPolygon(CampusType campus, List<double[]> rings) {
+        static CampusPolygon of(CampusType campus, JsonNode coordinates) {
+            List<double[]> rings = new ArrayList<>();
+            for (JsonNode ring : coordinates) {
+                double[] points = new double[ring.size() * 2];
+                for (int i = 0; i < ring.size(); i++) {
+                    points[2 * i] = ring.get(i).get(0).asDouble();
+                    points[2 * i + 1] = ring.get(i).get(1).asDouble();
+                }
+                rings.add(points);
+            }
+            if (rings.isEmpty()) {
+                throw new IllegalArgumentException("Polygon of campus " + campus + " has no coordinates.");
+            }
+            return new CampusPolygon(campus, rings);
+        }
+
+        /**
+         * Tests whether the polygon contains a point using the even-odd rule over all rings.
+         */
+        boolean contains(double latitude, double longitude) {
+            boolean inside = false;
+            for (double[] ring : rings) {
+                for (int i = 0, j = ring.length - 2; i < ring.length; j = i, i += 2) {
+                    double longitude1 = ring[i], latitude1 = ring[i + 1];
+                    double longitude2 = ring[j], latitude2 = ring[j + 1];
+                    if ((latitude1 > latitude) != (latitude2 > latitude)
+                            && longitude < (longitude2 - longitude1) * (latitude - latitude1) / (latitude2 - latitude1) + longitude1) {
+                        inside = !inside;
+                    }
+                }
+            }
+            return inside;
+        }
+
+        /**
+         * Tests whether an edge of the polygon intersects the given square cell.
+         */
+        boolean crosses(double cellMinLatitude, double cellMinLongitude, double cellSize) {
+            for (double[] ring : rings) {
+                for (int i = 0, j = ring.length - 2; i < ring.length; j = i, i += 2) {
+                    if (segmentIntersectsCell(ring[j], ring[j + 1], ring[i], ring[i + 1],
+                            cellMinLongitude, cellMinLatitude, cellMinLongitude + cellSize, cellMinLatitude + cellSize)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        double minLatitude() {
+            return extreme(1, true);
+        }
+
+        double maxLatitude() {
+            return extreme(1, false);
+        }
+
+        double minLongitude() {
+            return extreme(0, true);
+        }
+
+        double maxLongitude() {
+            return extreme(0, false);
+        }
+
+        private double extreme(int offset, boolean min) {
+            double[] outerRing = rings.getFirst();
+            double result = outerRing[offset];
+            for (int i = offset; i < outerRing.length; i += 2) {
+                result = min ? Math.min(result, outerRing[i]) : Math.max(result, outerRing[i]);
+            }
+            return result;
+        }
+
+        /**
+         * Clips a line segment against a rectangle (Liang-Barsky) to test whether they intersect.
+         */
+        private static boolean segmentIntersectsCell(double x1, double y1, double x2, double y2,
+                                                     double minX, double minY, double maxX, double maxY) {
+            double dx = x2 - x1;
+            double dy = y2 - y1;
+            double[] p = {-dx, dx, -dy, dy};
+            double[] q = {x1 - minX, maxX - x1, y1 - minY, maxY - y1};
+            double t0 = 0;
+            double t1 = 1;
+            for (int k = 0; k < 4; k++) {
+                if (p[k] == 0) {
+                    if (q[k] < 0) {
+                        return false;
+                    }
+                } else {
+                    double t = q[k] / p[k];
+                    if (p[k] < 0) {
+                        t0 = Math.max(t0, t);
+                    } else {
+                        t1 = Math.min(t1, t);
+                    }
+                    if (t0 > t1) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+    }
+}
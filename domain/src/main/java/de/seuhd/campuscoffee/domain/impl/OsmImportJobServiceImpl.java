@@ -0,0 +1,263 @@
+package de.seuhd.campuscoffee.domain.impl;
+
+import de.seuhd.campuscoffee.domain.config.OsmImportJobProperties;
+import de.seuhd.campuscoffee.domain.exceptions.OsmImportJobNotFoundException;
+import de.seuhd.campuscoffee.domain.exceptions.OsmServiceUnavailableException;
+import de.seuhd.campuscoffee.domain.model.BoundingBox;
+import de.seuhd.campuscoffee.domain.model.OsmImportJob;
+import de.seuhd.campuscoffee.domain.model.OsmImportJobStatus;
+import de.seuhd.campuscoffee.domain.model.OsmImportResult;
+import de.seuhd.campuscoffee.domain.model.OsmImportStatus;
+import de.seuhd.campuscoffee.domain.model.OsmNode;
+import de.seuhd.campuscoffee.domain.ports.OsmDataService;
+import de.seuhd.campuscoffee.domain.ports.OsmImportJobDataService;
+import de.seuhd.campuscoffee.domain.ports.OsmImportJobService;
+import de.seuhd.campuscoffee.domain.ports.PosService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NonNull;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Implementation of the OSM import job service.
+ * <p>
+ * Jobs are persisted before they are queued, so a submitted job is never lost. A fixed number of worker threads
+ * (see {@link OsmImportJobProperties#workers()}) executes the jobs: bounding box jobs first resolve the POS nodes in
+ * their area, then the nodes are imported in batches using {@link PosService#importFromOsmNodes(List)}. The progress
+ * is checkpointed after every batch; jobs that are still queued or running when the application starts are resumed
+ * from their last checkpoint, so at most one batch is imported twice. A job is only queued once per instance, even if
+ * it is submitted while unfinished jobs are resumed. On shutdown, the workers are interrupted; a
+ * batch that has been interrupted is not checkpointed, and the job stays running, so that it is resumed with this batch.
+ * If the OSM API is unavailable, the job is queued again and resumed after a delay that starts at
+ * {@link OsmImportJobProperties#retryDelay()} and doubles with every retry (or the longer delay requested by the API);
+ * after {@link OsmImportJobProperties#maxRetries()} retries without a successful batch, the job fails.
+ */
+@Slf4j
+@Service
+public class OsmImportJobServiceImpl implements OsmImportJobService {
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
+
+    private final OsmImportJobDataService osmImportJobDataService;
+    private final PosService posService;
+    private final OsmDataService osmDataService;
+    private final int batchSize;
+    private final Duration retryDelay;
+    private final int maxRetries;
+    private final ScheduledExecutorService workers;
+    private final Set<Long> activeJobIds = ConcurrentHashMap.newKeySet(); // jobs queued, waiting for a retry, or running
+
+    public OsmImportJobServiceImpl(OsmImportJobDataService osmImportJobDataService, PosService posService,
+                                   OsmDataService osmDataService, OsmImportJobProperties properties) {
+        this.osmImportJobDataService = osmImportJobDataService;
+        this.posService = posService;
+        this.osmDataService = osmDataService;
+        this.batchSize = Math.min(properties.batchSize(), PosService.MAX_OSM_IMPORT_SIZE);
+        this.retryDelay = properties.retryDelay();
+        this.maxRetries = properties.maxRetries();
+        ThreadFactory threadFactory = Thread.ofPlatform().name("osm-import-worker-", 1).daemon().factory();
+        this.workers = Executors.newScheduledThreadPool(properties.workers(), threadFactory);
+    }
+
+    @Override
+    public @NonNull OsmImportJob submit(@NonNull List<Long> nodeIds) throws IllegalArgumentException {
+        List<Long> distinctNodeIds = nodeIds.stream().distinct().toList();
+        if (distinctNodeIds.isEmpty() || distinctNodeIds.size() > MAX_JOB_SIZE) {
+            throw new IllegalArgumentException("An import job must contain between 1 and " + MAX_JOB_SIZE + " OSM nodes.");
+        }
+        return enqueue(OsmImportJob.builder()
+                .status(OsmImportJobStatus.QUEUED)
+                .nodeIds(distinctNodeIds)
+                .build());
+    }
+
+    @Override
+    public @NonNull OsmImportJob submit(@NonNull BoundingBox boundingBox) throws IllegalArgumentException {
+        if (boundingBox.minLatitude() < -90 || boundingBox.maxLatitude() > 90
+                || boundingBox.minLongitude() < -180 || boundingBox.maxLongitude() > 180) {
+            throw new IllegalArgumentException("Latitudes must be between -90 and 90 and longitudes between -180 and 180.");
+        }
+        if (boundingBox.minLatitude() >= boundingBox.maxLatitude() || boundingBox.minLongitude() >= boundingBox.maxLongitude()) {
+            throw new IllegalArgumentException("The minimum coordinates of a bounding box must be less than the maximum coordinates.");
+        }
+        if (boundingBox.area() > MAX_BOUNDING_BOX_AREA) {
+            throw new IllegalArgumentException("The area of a bounding box must be at most " + MAX_BOUNDING_BOX_AREA + " square degrees.");
+        }
+        return enqueue(OsmImportJob.builder()
+                .status(OsmImportJobStatus.QUEUED)
+                .boundingBox(boundingBox)
+                .nodeIds(List.of())
+                .build());
+    }
+
+    @Override
+    public @NonNull OsmImportJob getById(@NonNull Long id) throws OsmImportJobNotFoundException {
+        return osmImportJobDataService.getById(id);
+    }
+
+    /**
+     * Queues the jobs that were interrupted by a shutdown once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    void resumeUnfinishedJobs() {
+        List<OsmImportJob> unfinishedJobs = osmImportJobDataService.getUnfinished();
+        if (!unfinishedJobs.isEmpty()) {
+            log.info("Resuming {} unfinished OSM import jobs", unfinishedJobs.size());
+        }
+        // jobs submitted after the web server has started are already queued
+        unfinishedJobs.forEach(job -> schedule(job.id()));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        // running jobs stop without checkpointing their current batch and are resumed after the next start;
+        // jobs waiting for a retry are still queued in the data store
+        workers.shutdownNow();
+        try {
+            if (!workers.awaitTermination(SHUTDOWN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("OSM import workers did not stop within {}", SHUTDOWN_TIMEOUT);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private OsmImportJob enqueue(OsmImportJob job) {
+        OsmImportJob createdJob = osmImportJobDataService.create(job);
+        log.info("Queued OSM import job {}", createdJob.id());
+        schedule(createdJob.id());
+        return createdJob;
+    }
+
+    /**
+     * Hands a job to the workers unless it is already queued or running in this instance.
+     *
+     * @param jobId the ID of the job
+     */
+    private void schedule(Long jobId) {
+        if (activeJobIds.add(jobId)) {
+            workers.execute(() -> execute(jobId, 0));
+        }
+    }
+
+    /**
+     * Executes a job from its last checkpoint. Runs on a worker thread.
+     *
+     * @param jobId   the ID of the job
+     * @param retries the number of consecutive retries because the OSM API was unavailable
+     */
+    void execute(@NonNull Long jobId, int retries) {
+        boolean requeued = false;
+        try {
+            requeued = run(jobId, retries);
+        } finally {
+            if (!requeued) {
+                activeJobIds.remove(jobId);
+            }
+        }
+    }
+
+    /**
+     * Runs a job from its last checkpoint until it is completed, failed, interrupted, or paused.
+     *
+     * @param jobId   the ID of the job
+     * @param retries the number of consecutive retries because the OSM API was unavailable
+     * @return true if the job has been queued again because the OSM API was unavailable
+     */
+    private boolean run(Long jobId, int retries) {
+        OsmImportJob job = osmImportJobDataService.getById(jobId);
+        try {
+            job = osmImportJobDataService.update(job.toBuilder().status(OsmImportJobStatus.RUNNING).build());
+            if (job.boundingBox() != null && job.nodeIds().isEmpty()) {
+                job = osmImportJobDataService.update(job.toBuilder().nodeIds(findPosNodeIds(job.boundingBox())).build());
+            }
+            log.info("Running OSM import job {} at {} of {} nodes", jobId, job.processedCount(), job.nodeIds().size());
+
+            while (job.processedCount() < job.nodeIds().size()) {
+                if (Thread.currentThread().isInterrupted()) {
+                    log.info("OSM import job {} interrupted at {} of {} nodes", jobId, job.processedCount(), job.nodeIds().size());
+                    return false;
+                }
+                List<Long> batch = job.nodeIds().subList(job.processedCount(),
+                        Math.min(job.processedCount() + batchSize, job.nodeIds().size()));
+                List<OsmImportResult> results = posService.importFromOsmNodes(batch);
+                if (Thread.currentThread().isInterrupted()) {
+                    // the results of interrupted fetches are not meaningful, so the batch is imported again on resume
+                    log.info("OSM import job {} interrupted at {} of {} nodes", jobId, job.processedCount(), job.nodeIds().size());
+                    return false;
+                }
+                int imported = (int) results.stream().filter(result -> result.status() == OsmImportStatus.IMPORTED).count();
+                job = osmImportJobDataService.update(job.toBuilder()
+                        .processedCount(job.processedCount() + batch.size())
+                        .importedCount(job.importedCount() + imported)
+                        .failedCount(job.failedCount() + batch.size() - imported)
+                        .build());
+                retries = 0;
+            }
+
+            osmImportJobDataService.update(job.toBuilder().status(OsmImportJobStatus.COMPLETED).build());
+            log.info("Completed OSM import job {}: {} imported, {} failed", jobId, job.importedCount(), job.failedCount());
+            return false;
+        } catch (RuntimeException e) {
+            if (Thread.currentThread().isInterrupted()) {
+                // e.g., a request or checkpoint interrupted by a shutdown; the job stays running and is resumed
+                log.info("OSM import job {} interrupted at {} of {} nodes: {}",
+                        jobId, job.processedCount(), job.nodeIds().size(), e.getMessage());
+                return false;
+            }
+            if (e instanceof OsmServiceUnavailableException unavailable && retries < maxRetries) {
+                requeue(job, unavailable, retries);
+                return true;
+            }
+            log.error("OSM import job {} failed", jobId, e);
+            osmImportJobDataService.update(job.toBuilder()
+                    .status(OsmImportJobStatus.FAILED)
+                    .message(e.getMessage())
+                    .build());
+            return false;
+        }
+    }
+
+    /**
+     * Queues a job again after the OSM API was unavailable, so that it is resumed from its last checkpoint once the
+     * API is expected to be available again.
+     *
+     * @param job     the job as of its last checkpoint
+     * @param cause   the exception that reported the unavailable API
+     * @param retries the number of consecutive retries before this one
+     */
+    private void requeue(OsmImportJob job, OsmServiceUnavailableException cause, int retries) {
+        // exponential backoff, capped to keep the multiplication from overflowing
+        Duration delay = retryDelay.multipliedBy(1L << Math.min(retries, 20));
+        if (cause.getRetryAfter() != null && cause.getRetryAfter().compareTo(delay) > 0) {
+            delay = cause.getRetryAfter();
+        }
+        log.warn("OSM import job {} paused at {} of {} nodes, retry {} of {} in {}: {}", job.id(),
+                job.processedCount(), job.nodeIds().size(), retries + 1, maxRetries, delay, cause.getMessage());
+        osmImportJobDataService.update(job.toBuilder().status(OsmImportJobStatus.QUEUED).build());
+        workers.schedule(() -> execute(job.id(), retries + 1), delay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Finds the nodes in an area that represent a POS.
+     *
+     * @param boundingBox the area
+     * @return the IDs of the named nodes with a supported amenity
+     */
+    private List<Long> findPosNodeIds(BoundingBox boundingBox) {
+        return osmDataService.fetchNodes(boundingBox).stream()
+                .filter(node -> node.name() != null && OsmNodeConverter.isSupportedAmenity(node.amenity()))
+                .map(OsmNode::nodeId)
+                .toList();
+    }
+}
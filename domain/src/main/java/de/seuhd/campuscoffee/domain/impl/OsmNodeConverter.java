@@ -0,0 +1,235 @@
+package de.seuhd.campuscoffee.domain.impl;
+
+import de.seuhd.campuscoffee.domain.config.CampusProperties;
+import de.seuhd.campuscoffee.domain.exceptions.OsmNodeMissingFieldsException;
+import de.seuhd.campuscoffee.domain.model.CampusType;
+import de.seuhd.campuscoffee.domain.model.OsmNode;
+import de.seuhd.campuscoffee.domain.model.Pos;
+import de.seuhd.campuscoffee.domain.model.PosType;
+import de.seuhd.campuscoffee.domain.ports.CampusResolver;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Converts OpenStreetMap nodes to POS for the OSM imports of the {@link PosServiceImpl} and the {@link OsmImportJobServiceImpl}.
+ * Only depends on the campus resolution, so that the conversion can be benchmarked in isolation.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class OsmNodeConverter {
+    private final CampusResolver campusResolver;
+    private final CampusProperties campusProperties;
+
+    /**
+     * Converts an OSM node to a POS domain object.
+     * <p>
+     * This method validates that all required fields are present in the OSM node,
+     * maps OSM amenity types to POS types, determines the campus based on coordinates,
+     * and constructs a complete POS object ready for persistence.
+     *
+     * @param osmNode the OSM node containing location and tag data
+     * @return a fully populated POS domain object
+     * @throws OsmNodeMissingFieldsException if required fields are missing
+     */
+    @NonNull Pos convert(@NonNull OsmNode osmNode) {
+        log.debug("Converting OSM node {} to POS", osmNode.nodeId());
+
+        // Validate required fields
+        validateRequiredFields(osmNode);
+
+        // Extract and map fields
+        String name = osmNode.name();
+        String description = extractDescription(osmNode);
+        PosType type = mapAmenityToType(osmNode.amenity());
+        CampusType campus = determineCampus(osmNode.latitude(), osmNode.longitude());
+        String street = osmNode.street();
+        String houseNumber = osmNode.houseNumber();
+        Integer postalCode = parsePostalCode(osmNode.postcode());
+        String city = osmNode.city();
+
+        return Pos.builder()
+                .name(name)
+                .description(description)
+                .type(type)
+                .campus(campus)
+                .street(street)
+                .houseNumber(houseNumber)
+                .postalCode(postalCode)
+                .city(city)
+                .latitude(osmNode.latitude())
+                .longitude(osmNode.longitude())
+                .build();
+    }
+
+    /**
+     * Validates that all required fields for creating a POS are present in the OSM node.
+     * <p>
+     * Required fields:
+     * <ul>
+     *   <li>name - The establishment's name</li>
+     *   <li>addr:street - Street address</li>
+     *   <li>addr:housenumber - House number</li>
+     *   <li>addr:postcode - Postal code</li>
+     *   <li>addr:city - City name</li>
+     * </ul>
+     *
+     * @param osmNode the OSM node to validate
+     * @throws OsmNodeMissingFieldsException if any required field is missing
+     */
+    private static void validateRequiredFields(@NonNull OsmNode osmNode) {
+        List<String> missingFields = new ArrayList<>();
+
+        if (osmNode.name() == null || osmNode.name().isEmpty()) {
+            missingFields.add("name");
+        }
+        if (osmNode.street() == null || osmNode.street().isEmpty()) {
+            missingFields.add("addr:street");
+        }
+        if (osmNode.houseNumber() == null || osmNode.houseNumber().isEmpty()) {
+            missingFields.add("addr:housenumber");
+        }
+        if (osmNode.postcode() == null || osmNode.postcode().isEmpty()) {
+            missingFields.add("addr:postcode");
+        }
+        if (osmNode.city() == null || osmNode.city().isEmpty()) {
+            missingFields.add("addr:city");
+        }
+
+        if (!missingFields.isEmpty()) {
+            log.warn("OSM node {} is missing required fields: {}", osmNode.nodeId(), missingFields);
+            throw new OsmNodeMissingFieldsException(osmNode.nodeId(), missingFields);
+        }
+    }
+
+    /**
+     * Returns whether an OSM amenity tag has a dedicated POS type (see {@link #mapAmenityToType(String)}).
+     * Used to select the nodes of an area that represent a POS.
+     *
+     * @param amenity the OSM amenity tag value (may be null)
+     * @return true if the amenity is mapped to a POS type
+     */
+    static boolean isSupportedAmenity(String amenity) {
+        return amenity != null && switch (amenity.toLowerCase()) {
+            case "cafe", "bakery", "restaurant", "fast_food", "vending_machine" -> true;
+            default -> false;
+        };
+    }
+
+    /**
+     * Maps OSM amenity tag to POS type.
+     * <p>
+     * Mapping:
+     * <ul>
+     *   <li>"cafe" → CAFE</li>
+     *   <li>"bakery" → BAKERY</li>
+     *   <li>"restaurant", "fast_food" → CAFETERIA</li>
+     *   <li>"vending_machine" → VENDING_MACHINE</li>
+     *   <li>null or unknown → CAFE (default)</li>
+     * </ul>
+     *
+     * @param amenity the OSM amenity tag value (may be null)
+     * @return the corresponding POS type
+     */
+    private static PosType mapAmenityToType(String amenity) {
+        if (amenity == null) {
+            log.debug("No amenity tag found, defaulting to CAFE");
+            return PosType.CAFE;
+        }
+
+        return switch (amenity.toLowerCase()) {
+            case "cafe" -> PosType.CAFE;
+            case "bakery" -> PosType.BAKERY;
+            case "restaurant", "fast_food" -> PosType.CAFETERIA;
+            case "vending_machine" -> PosType.VENDING_MACHINE;
+            default -> {
+                log.debug("Unknown amenity type '{}', defaulting to CAFE", amenity);
+                yield PosType.CAFE;
+            }
+        };
+    }
+
+    /**
+     * Determines the campus based on geographical coordinates using the {@link CampusResolver}.
+     * Locations that are not on any known campus are assigned the configured fallback campus.
+     *
+     * @param latitude the latitude coordinate
+     * @param longitude the longitude coordinate
+     * @return the determined campus type
+     */
+    private CampusType determineCampus(double latitude, double longitude) {
+        return campusResolver.resolve(latitude, longitude)
+                .orElseGet(() -> {
+                    log.warn("Location ({}, {}) is not on any known campus, using fallback campus {}",
+                            latitude, longitude, campusProperties.fallback());
+                    return campusProperties.fallback();
+                });
+    }
+
+    /**
+     * Parses postal code string to integer.
+     * <p>
+     * Handles various formats and returns null if parsing fails.
+     *
+     * @param postcode the postal code string from OSM (may be null)
+     * @return the parsed integer postal code, or null if invalid
+     */
+    private static Integer parsePostalCode(String postcode) {
+        if (postcode == null || postcode.isEmpty()) {
+            return null;
+        }
+
+        try {
+            return Integer.parseInt(postcode.trim());
+        } catch (NumberFormatException e) {
+            log.warn("Invalid postal code format: '{}', returning null", postcode);
+            return null;
+        }
+    }
+
+    /**
+     * Generates a description from available OSM data.
+     * <p>
+     * Combines amenity type and cuisine information if available.
+     * Falls back to a generic message if no descriptive data is present.
+     * <p>
+     * Examples:
+     * <ul>
+     *   <li>amenity="cafe", cuisine="coffee_shop" → "Cafe - coffee_shop"</li>
+     *   <li>amenity="bakery", cuisine=null → "Bakery"</li>
+     *   <li>amenity=null, cuisine=null → "Imported from OpenStreetMap"</li>
+     * </ul>
+     *
+     * @param osmNode the OSM node containing tag data
+     * @return a descriptive string for the POS
+     */
+    private static String extractDescription(@NonNull OsmNode osmNode) {
+        StringBuilder desc = new StringBuilder();
+
+        if (osmNode.amenity() != null && !osmNode.amenity().isEmpty()) {
+            // Capitalize first letter of amenity type
+            String amenity = osmNode.amenity();
+            desc.append(Character.toUpperCase(amenity.charAt(0)))
+                .append(amenity.substring(1).replace('_', ' '));
+        }
+
+        if (osmNode.cuisine() != null && !osmNode.cuisine().isEmpty()) {
+            if (desc.length() > 0) {
+                desc.append(" - ");
+            }
+            desc.append(osmNode.cuisine().replace('_', ' '));
+        }
+
+        // Fallback to generic description if nothing was found
+        if (desc.length() == 0) {
+            return "Imported from OpenStreetMap";
+        }
+
+        return desc.toString();
+    }
+}
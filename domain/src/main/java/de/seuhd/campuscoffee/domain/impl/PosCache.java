@@ -0,0 +1,195 @@
+package de.seuhd.campuscoffee.domain.impl;
+
+import de.seuhd.campuscoffee.domain.config.PosCacheProperties;
+import de.seuhd.campuscoffee.domain.model.Pos;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Bounded read-through cache for POS domain objects.
+ * <p>
+ * Single POS are kept in a least-recently-used map that is limited to {@link PosCacheProperties#maxSize()} entries.
+ * In addition, the list of all POS is cached as a single entry. All entries expire after {@link PosCacheProperties#ttl()}.
+ * Since {@link Pos} is immutable, cached objects can be handed out without copying.
+ * <p>
+ * Writes go through the cache: {@link #put(Pos)} replaces the cached POS and invalidates the cached list,
+ * {@link #remove(Long)} drops a deleted POS, and {@link #invalidateAll()} drops all entries. Each invalidation
+ * increments a generation counter so that values loaded concurrently with a write are not stored, which prevents
+ * stale data from re-entering the cache.
+ */
+@Slf4j
+@Component
+public class PosCache {
+    private final PosCacheProperties properties;
+    private final long ttlNanos;
+    private final Map<Long, Entry<Pos>> entries;
+    private Entry<List<Pos>> allEntry;
+    private long generation;
+    private final PosTombstones tombstones = new PosTombstones();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public PosCache(PosCacheProperties properties) {
+        this.properties = properties;
+        this.ttlNanos = properties.ttl().toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) { // access order for LRU eviction
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry<Pos>> eldest) {
+                boolean evict = size() > properties.maxSize();
+                if (evict) {
+                    evictions.increment();
+                }
+                return evict;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached POS with the given ID or loads and caches it on a miss.
+     *
+     * @param id     the POS ID
+     * @param loader function that loads the POS on a cache miss; exceptions are propagated and nothing is cached
+     * @return the cached or loaded POS
+     */
+    public @NonNull Pos getById(@NonNull Long id, @NonNull Function<Long, Pos> loader) {
+        if (!properties.enabled()) {
+            return loader.apply(id);
+        }
+        long loadGeneration;
+        synchronized (this) {
+            Entry<Pos> entry = entries.get(id);
+            if (entry != null && !entry.isExpired()) {
+                hits.increment();
+                return entry.value();
+            }
+            if (entry != null) {
+                entries.remove(id);
+                evictions.increment();
+            }
+            misses.increment();
+            loadGeneration = generation;
+        }
+        // load outside the lock so that a slow database call does not block other readers
+        Pos pos = loader.apply(id);
+        synchronized (this) {
+            if (loadGeneration == generation) {
+                entries.put(id, new Entry<>(pos, expiry()));
+            }
+        }
+        return pos;
+    }
+
+    /**
+     * Returns the cached list of all POS or loads and caches it on a miss.
+     *
+     * @param loader supplier that loads all POS on a cache miss
+     * @return the cached or loaded list of all POS
+     */
+    public @NonNull List<Pos> getAll(@NonNull Supplier<List<Pos>> loader) {
+        if (!properties.enabled()) {
+            return loader.get();
+        }
+        long loadGeneration;
+        synchronized (this) {
+            if (allEntry != null && !allEntry.isExpired()) {
+                hits.increment();
+                return allEntry.value();
+            }
+            if (allEntry != null) {
+                allEntry = null;
+                evictions.increment();
+            }
+            misses.increment();
+            loadGeneration = generation;
+        }
+        List<Pos> posList = List.copyOf(loader.get());
+        synchronized (this) {
+            if (loadGeneration == generation) {
+                allEntry = new Entry<>(posList, expiry());
+            }
+        }
+        return posList;
+    }
+
+    /**
+     * Stores a POS that has just been written to the data store and invalidates the cached list of all POS.
+     * If a newer version of the POS is already cached (see {@link PosVersions}) or the POS has been removed since
+     * this version was written (see {@link PosTombstones}), the cache is left unchanged.
+     *
+     * @param pos the persisted POS; must have an ID
+     */
+    public synchronized void put(@NonNull Pos pos) {
+        if (!properties.enabled() || pos.id() == null) {
+            return;
+        }
+        Entry<Pos> current = entries.get(pos.id());
+        if (PosVersions.isOutdated(pos, current == null ? null : current.value()) || tombstones.isRemoved(pos)) {
+            log.debug("Ignoring outdated version of POS {}", pos.id());
+            return;
+        }
+        generation++;
+        allEntry = null;
+        entries.put(pos.id(), new Entry<>(pos, expiry()));
+    }
+
+    /**
+     * Removes a POS that has just been deleted from the data store and invalidates the cached list of all POS.
+     *
+     * @param id the ID of the deleted POS
+     */
+    public synchronized void remove(@NonNull Long id) {
+        generation++;
+        allEntry = null;
+        entries.remove(id);
+        tombstones.add(id);
+    }
+
+    /**
+     * Removes all entries from the cache.
+     */
+    public synchronized void invalidateAll() {
+        generation++;
+        allEntry = null;
+        entries.clear();
+        log.debug("POS cache invalidated");
+    }
+
+    /**
+     * Returns a snapshot of the cache statistics.
+     *
+     * @return the current hit, miss, and eviction counts as well as the number of cached POS
+     */
+    public synchronized @NonNull Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), entries.size());
+    }
+
+    private long expiry() {
+        return System.nanoTime() + ttlNanos;
+    }
+
+    /**
+     * Statistics of the POS cache.
+     *
+     * @param hits      number of reads served from the cache
+     * @param misses    number of reads that had to be loaded from the data store
+     * @param evictions number of entries removed because the cache was full or the entry expired
+     * @param size      number of single POS currently cached
+     */
+    public record Stats(long hits, long misses, long evictions, int size) {}
+
+    private record Entry<T>(T value, long expiresAtNanos) {
+        boolean isExpired() {
+            return System.nanoTime() - expiresAtNanos > 0;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package de.seuhd.campuscoffee.domain.impl;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.NonNull;
+import org.springframework.stereotype.Component;
+
+/**
+ * Exposes the statistics of the {@link PosCache} as metrics:
+ * {@code campuscoffee.cache.pos.gets} (tagged with {@code result=hit|miss}), {@code campuscoffee.cache.pos.evictions},
+ * and {@code campuscoffee.cache.pos.size}.
+ */
+@Component
+@RequiredArgsConstructor
+class PosCacheMetrics implements MeterBinder {
+    private final PosCache posCache;
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        FunctionCounter.builder("campuscoffee.cache.pos.gets", posCache, cache -> cache.stats().hits())
+                .tag("result", "hit")
+                .description("Number of POS cache lookups")
+                .register(registry);
+        FunctionCounter.builder("campuscoffee.cache.pos.gets", posCache, cache -> cache.stats().misses())
+                .tag("result", "miss")
+                .description("Number of POS cache lookups")
+                .register(registry);
+        FunctionCounter.builder("campuscoffee.cache.pos.evictions", posCache, cache -> cache.stats().evictions())
+                .description("Number of POS cache entries evicted because of the size limit or expiry")
+                .register(registry);
+        Gauge.builder("campuscoffee.cache.pos.size", posCache, cache -> cache.stats().size())
+                .description("Number of POS in the cache")
+                .register(registry);
+    }
+}
@@ -0,0 +1,140 @@
+package de.seuhd.campuscoffee.domain.impl;
+
+import de.seuhd.campuscoffee.domain.config.PosChangeFeedProperties;
+import de.seuhd.campuscoffee.domain.model.Pos;
+import de.seuhd.campuscoffee.domain.model.PosChange;
+import de.seuhd.campuscoffee.domain.model.PosChangePage;
+import de.seuhd.campuscoffee.domain.model.PosChangeType;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory feed of the most recent changes of the POS catalog.
+ * <p>
+ * Changes are numbered with a sequence that increases by one with every change. It starts after the start time of the
+ * feed in microseconds since the epoch, so sequences handed out before a restart are lower than those handed out after
+ * it (unless more than one change per microsecond was published). The feed keeps the
+ * last {@link PosChangeFeedProperties#capacity()} changes in a ring buffer, so consumers can resume from the
+ * sequence of the last change they have seen as long as they do not fall too far behind. Otherwise, and if the
+ * sequence is unknown (e.g., because it was handed out before a restart), consumers are asked to reload all POS.
+ * <p>
+ * The feed is written by the {@link PosServiceImpl} after every successful write. Like the in-memory indexes,
+ * it only sees the writes of this instance. Concurrent writes of the same POS may be published in a different
+ * order than they were committed; consumers can compare the update timestamps of the POS.
+ */
+@Slf4j
+@Component
+public class PosChangeFeed {
+    private final PosChange[] changes;
+    private final Lock lock = new ReentrantLock();
+    private final Condition published = lock.newCondition();
+    private final long startSequence; // the sequence before the first change of this feed
+    private long lastSequence;
+
+    public PosChangeFeed(@NonNull PosChangeFeedProperties properties) {
+        if (properties.capacity() < 1) {
+            throw new IllegalArgumentException("The capacity of the POS change feed must be positive.");
+        }
+        this.changes = new PosChange[properties.capacity()];
+        this.startSequence = ChronoUnit.MICROS.between(Instant.EPOCH, Instant.now());
+        this.lastSequence = startSequence;
+    }
+
+    /**
+     * Publishes the creation or update of a POS.
+     *
+     * @param type either {@link PosChangeType#CREATED} or {@link PosChangeType#UPDATED}
+     * @param pos  the persisted POS; must have an ID
+     */
+    public void publish(@NonNull PosChangeType type, @NonNull Pos pos) {
+        append(type, pos.id(), pos);
+    }
+
+    /**
+     * Publishes the deletion of a POS.
+     *
+     * @param posId the ID of the deleted POS
+     */
+    public void publishDeleted(@NonNull Long posId) {
+        append(PosChangeType.DELETED, posId, null);
+    }
+
+    /**
+     * Publishes the deletion of all POS.
+     */
+    public void publishCleared() {
+        append(PosChangeType.CLEARED, null, null);
+    }
+
+    /**
+     * Returns the changes after the given sequence, waiting for the next change if there is none yet.
+     *
+     * @param after   the sequence of the last change seen by the consumer; null to start with the next change
+     * @param limit   the maximum number of changes to return; must be positive
+     * @param timeout the maximum time to wait for a change; zero to return immediately
+     * @return the changes after the given sequence, or an empty page if none was published before the timeout
+     *         or the calling thread was interrupted
+     */
+    public @NonNull PosChangePage getChanges(@Nullable Long after, int limit, @NonNull Duration timeout) {
+        lock.lock();
+        try {
+            long position = after == null ? lastSequence : after;
+            long remainingNanos = timeout.toNanos();
+            while (position == lastSequence && remainingNanos > 0) {
+                try {
+                    remainingNanos = published.awaitNanos(remainingNanos);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            // checked after waiting, since the changes may have been overwritten in the meantime
+            if (position > lastSequence || position < Math.max(startSequence, lastSequence - changes.length)) {
+                log.debug("POS change feed position {} is not available (last sequence: {})", position, lastSequence);
+                return new PosChangePage(List.of(), lastSequence, true);
+            }
+            int count = (int) Math.min(limit, lastSequence - position);
+            List<PosChange> page = new ArrayList<>(count);
+            for (long sequence = position + 1; sequence <= position + count; sequence++) {
+                page.add(changes[index(sequence)]);
+            }
+            return new PosChangePage(page, position + count, false);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void append(PosChangeType type, @Nullable Long posId, @Nullable Pos pos) {
+        lock.lock();
+        try {
+            lastSequence++;
+            changes[index(lastSequence)] = PosChange.builder()
+                    .sequence(lastSequence)
+                    .type(type)
+                    .posId(posId)
+                    .pos(pos)
+                    .occurredAt(LocalDateTime.now(ZoneId.of("UTC")).truncatedTo(ChronoUnit.MICROS))
+                    .build();
+            published.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int index(long sequence) {
+        return (int) (sequence % changes.length);
+    }
+}
@@ -0,0 +1,27 @@
+package de.seuhd.campuscoffee.domain.impl;
+
+import de.seuhd.campuscoffee.domain.ports.PosDataService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Builds the in-memory POS indexes ({@link PosSpatialIndex}, {@link PosSearchIndex}) and, if enabled,
+ * the {@link PosReadModel} from the data store once the application has started.
+ */
+@Component
+@RequiredArgsConstructor
+class PosIndexLoader {
+    private final PosDataService posDataService;
+    private final PosSpatialIndex posSpatialIndex;
+    private final PosSearchIndex posSearchIndex;
+    private final PosReadModel posReadModel;
+
+    @EventListener(ApplicationReadyEvent.class)
+    void loadIndexes() {
+        posSpatialIndex.rebuild(posDataService::streamAll);
+        posSearchIndex.rebuild(posDataService::streamAll);
+        posReadModel.rebuild(posDataService::streamAll);
+    }
+}
@@ -0,0 +1,279 @@
+package de.seuhd.campuscoffee.domain.impl;
+
+import de.seuhd.campuscoffee.domain.model.CampusType;
+import de.seuhd.campuscoffee.domain.model.Pos;
+import de.seuhd.campuscoffee.domain.model.PosCatalogVersion;
+import de.seuhd.campuscoffee.domain.model.PosFilter;
+import de.seuhd.campuscoffee.domain.model.PosType;
+import de.seuhd.campuscoffee.domain.ports.PosDataService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+/**
+ * Optional in-memory read model that serves POS reads from an immutable snapshot of all POS instead of the data store.
+ * <p>
+ * The snapshot contains all POS ordered by ID, indexed by ID, campus, and type. Readers access the current snapshot
+ * through a volatile reference without locking. Writers are serialized; each write copies the snapshot, applies the
+ * change, and publishes the new snapshot (copy-on-write). This trades linear work per write for lock-free reads,
+ * which suits a small catalog that is read much more often than it is written.
+ * <p>
+ * The read model is enabled with {@code campus-coffee.read-model.in-memory}. It is kept in sync by the
+ * {@link PosServiceImpl} on every write and built from the data store once the application has started
+ * (see {@link PosIndexLoader}); until then, {@link #isLoaded()} returns false and reads go to the data store.
+ * Like the in-memory indexes, it only sees the writes of this instance.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PosReadModel {
+    @Value("${campus-coffee.read-model.in-memory:false}")
+    private final boolean enabled;
+
+    private final Object writeLock = new Object();
+    private final PosTombstones tombstones = new PosTombstones(); // guarded by writeLock
+    private volatile @Nullable Snapshot snapshot; // null until the read model has been built
+
+    /**
+     * Returns whether reads can be served from the read model, i.e., whether it is enabled and has been built.
+     *
+     * @return true if the read model contains all POS
+     */
+    public boolean isLoaded() {
+        return snapshot != null;
+    }
+
+    /**
+     * Returns the POS with the given ID.
+     *
+     * @param id the POS ID
+     * @return the POS; null if it does not exist or the read model has not been built
+     */
+    public @Nullable Pos getById(@NonNull Long id) {
+        Snapshot current = snapshot;
+        return current == null ? null : current.byId().get(id);
+    }
+
+    /**
+     * Returns the POS that match the given filter.
+     *
+     * @param filter the filter criteria
+     * @return the matching POS ordered by ID; empty if the read model has not been built
+     */
+    public @NonNull List<Pos> getAll(@NonNull PosFilter filter) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return List.of();
+        }
+        List<Pos> candidates = current.candidates(filter);
+        return candidates == current.all() && filter.isEmpty()
+                ? candidates
+                : candidates.stream().filter(pos -> matches(filter, pos)).toList();
+    }
+
+    /**
+     * Returns a page of the POS that match the given filter (keyset pagination).
+     *
+     * @param filter the filter criteria
+     * @param after  the ID of the last POS of the previous page; null to start with the first page
+     * @param limit  the maximum number of POS to return
+     * @return the POS of the requested page ordered by ID; empty if the read model has not been built
+     */
+    public @NonNull List<Pos> getPage(@NonNull PosFilter filter, @Nullable Long after, int limit) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return List.of();
+        }
+        List<Pos> candidates = current.candidates(filter);
+        List<Pos> page = new ArrayList<>(Math.min(limit, candidates.size()));
+        for (int i = after == null ? 0 : indexAfter(candidates, after); i < candidates.size() && page.size() < limit; i++) {
+            if (matches(filter, candidates.get(i))) {
+                page.add(candidates.get(i));
+            }
+        }
+        return page;
+    }
+
+    /**
+     * Returns the version of the POS catalog as contained in the read model.
+     *
+     * @return the number of POS and their latest update timestamp; empty if the read model has not been built
+     */
+    public @NonNull PosCatalogVersion getCatalogVersion() {
+        Snapshot current = snapshot;
+        return current == null ? new PosCatalogVersion(0, null) : current.version();
+    }
+
+    /**
+     * Adds a POS that has just been written to the data store or replaces the contained version of it,
+     * unless the contained version is newer or the POS has been removed since this version was written.
+     *
+     * @param pos the persisted POS; must have an ID
+     */
+    public void put(@NonNull Pos pos) {
+        putAll(List.of(pos));
+    }
+
+    /**
+     * Adds POS that have just been written to the data store or replaces the contained versions of them,
+     * with a single copy of the snapshot. Contained versions that are newer than the given ones are kept,
+     * and POS that have been removed since the given versions were written are not added again.
+     *
+     * @param posList the persisted POS; must have IDs
+     */
+    public void putAll(@NonNull Collection<Pos> posList) {
+        update(byId -> posList.forEach(pos -> {
+            if (PosVersions.isOutdated(pos, byId.get(pos.id())) || tombstones.isRemoved(pos)) {
+                log.debug("Ignoring outdated version of POS {}", pos.id());
+            } else {
+                byId.put(pos.id(), pos);
+            }
+        }));
+    }
+
+    /**
+     * Removes a POS that has just been deleted from the data store.
+     *
+     * @param id the ID of the deleted POS
+     */
+    public void remove(@NonNull Long id) {
+        synchronized (writeLock) {
+            tombstones.add(id);
+            update(byId -> byId.remove(id));
+        }
+    }
+
+    /**
+     * Removes all POS.
+     */
+    public void clear() {
+        synchronized (writeLock) {
+            tombstones.addAll();
+            update(NavigableMap::clear);
+        }
+    }
+
+    /**
+     * Replaces the content of the read model with the POS passed by the given source, if the read model is enabled.
+     * Writes are blocked while the read model is built, so that no concurrent update is lost; reads are not blocked.
+     *
+     * @param source a function that passes all POS to the given consumer (e.g., {@link PosDataService#streamAll})
+     */
+    public void rebuild(@NonNull Consumer<Consumer<Pos>> source) {
+        if (!enabled) {
+            return;
+        }
+        synchronized (writeLock) {
+            TreeMap<Long, Pos> byId = new TreeMap<>();
+            source.accept(pos -> byId.put(pos.id(), pos));
+            snapshot = Snapshot.of(byId);
+            log.info("Loaded {} POS into the in-memory read model", byId.size());
+        }
+    }
+
+    /**
+     * Applies a change to a copy of the current snapshot and publishes the result.
+     * Changes before the read model has been built are ignored, since they are contained in the data store it is built from.
+     */
+    private void update(Consumer<NavigableMap<Long, Pos>> change) {
+        synchronized (writeLock) {
+            Snapshot current = snapshot;
+            if (current == null) {
+                return;
+            }
+            TreeMap<Long, Pos> byId = new TreeMap<>(current.byId());
+            change.accept(byId);
+            snapshot = Snapshot.of(byId);
+        }
+    }
+
+    private static boolean matches(PosFilter filter, Pos pos) {
+        return (filter.campus() == null || filter.campus() == pos.campus())
+                && (filter.type() == null || filter.type() == pos.type())
+                && (filter.city() == null || filter.city().equals(pos.city()))
+                && (filter.postalCode() == null || filter.postalCode().equals(pos.postalCode()));
+    }
+
+    /**
+     * Finds the index of the first POS with an ID greater than the given one.
+     *
+     * @param posList POS ordered by ID
+     * @param after   the exclusive lower bound for the ID
+     * @return the index of the first POS after the given ID; the size of the list if there is none
+     */
+    private static int indexAfter(List<Pos> posList, long after) {
+        int low = 0;
+        int high = posList.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (posList.get(middle).id() <= after) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Immutable snapshot of all POS; all lists are ordered by ID.
+     */
+    private record Snapshot(
+            NavigableMap<Long, Pos> byId,
+            List<Pos> all,
+            Map<CampusType, List<Pos>> byCampus,
+            Map<PosType, List<Pos>> byType,
+            PosCatalogVersion version
+    ) {
+        static Snapshot of(TreeMap<Long, Pos> byId) {
+            List<Pos> all = List.copyOf(byId.values());
+            Map<CampusType, List<Pos>> byCampus = new EnumMap<>(CampusType.class);
+            Map<PosType, List<Pos>> byType = new EnumMap<>(PosType.class);
+            LocalDateTime lastUpdatedAt = null;
+            for (Pos pos : all) {
+                byCampus.computeIfAbsent(pos.campus(), campus -> new ArrayList<>()).add(pos);
+                byType.computeIfAbsent(pos.type(), type -> new ArrayList<>()).add(pos);
+                if (pos.updatedAt() != null && (lastUpdatedAt == null || pos.updatedAt().isAfter(lastUpdatedAt))) {
+                    lastUpdatedAt = pos.updatedAt();
+                }
+            }
+            byCampus.replaceAll((campus, posList) -> List.copyOf(posList));
+            byType.replaceAll((type, posList) -> List.copyOf(posList));
+            return new Snapshot(Collections.unmodifiableNavigableMap(byId), all,
+                    Collections.unmodifiableMap(byCampus), Collections.unmodifiableMap(byType),
+                    new PosCatalogVersion(all.size(), lastUpdatedAt));
+        }
+
+        /**
+         * Returns the smallest list of POS that contains all POS matching the given filter.
+         */
+        List<Pos> candidates(PosFilter filter) {
+            List<Pos> candidates = all;
+            if (filter.campus() != null) {
+                candidates = Objects.requireNonNullElse(byCampus.get(filter.campus()), List.of());
+            }
+            if (filter.type() != null) {
+                List<Pos> ofType = Objects.requireNonNullElse(byType.get(filter.type()), List.of());
+                if (ofType.size() < candidates.size()) {
+                    candidates = ofType;
+                }
+            }
+            return candidates;
+        }
+    }
+}
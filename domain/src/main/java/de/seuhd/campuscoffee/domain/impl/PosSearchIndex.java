@@ -0,0 +1,320 @@
+package de.seuhd.campuscoffee.domain.impl;
+
+import de.seuhd.campuscoffee.domain.model.Pos;
+import de.seuhd.campuscoffee.domain.ports.PosDataService;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * In-memory trigram index over the names and descriptions of all POS, used to answer search queries
+ * without accessing the database.
+ * <p>
+ * Words are split into trigrams the same way as by the PostgreSQL {@code pg_trgm} extension (lower case,
+ * padded with two spaces in front and one space at the end). The similarity of a POS is the fraction of the
+ * query trigrams that also occur in its name (or, with a lower weight, in its description). The last word of the
+ * query is not padded at the end, so it matches words it is a prefix of. POS whose name contains a word
+ * starting with the query are ranked first.
+ * <p>
+ * Each POS is assigned a dense slot number, and posting lists store slots as primitive arrays, so that a query
+ * only counts matches in an {@code int} array and keeps the best results in a bounded heap.
+ * <p>
+ * Like the {@link PosSpatialIndex}, the index is kept in sync by the {@link PosServiceImpl} on every write and built
+ * from the data store once the application has started (see {@link PosIndexLoader}). Reads and writes are thread-safe.
+ */
+@Slf4j
+@Component
+public class PosSearchIndex {
+    /**
+     * The minimum fraction of query trigrams that must occur in the name or description of a POS.
+     */
+    static final double SIMILARITY_THRESHOLD = 0.5;
+    private static final double DESCRIPTION_WEIGHT = 0.5;
+    private static final double PREFIX_MATCH_BONUS = 1;
+
+    private final Map<Long, Integer> slotById = new HashMap<>();
+    private final List<Pos> posBySlot = new ArrayList<>();
+    private final List<String> normalizedNameBySlot = new ArrayList<>();
+    private final Map<String, Postings> nameIndex = new HashMap<>();
+    private final Map<String, Postings> descriptionIndex = new HashMap<>();
+    private final PosTombstones tombstones = new PosTombstones();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Adds a POS to the index or replaces the indexed version of it, unless the indexed version is newer
+     * or the POS has been removed since this version was written.
+     *
+     * @param pos the POS to index; must have an ID
+     */
+    public void put(@NonNull Pos pos) {
+        lock.writeLock().lock();
+        try {
+            putUnlocked(pos);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a POS from the index.
+     *
+     * @param id the ID of the POS to remove
+     */
+    public void remove(@NonNull Long id) {
+        lock.writeLock().lock();
+        try {
+            removeUnlocked(id);
+            tombstones.add(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces the content of the index with the POS passed by the given source.
+     * Writes are blocked while the index is rebuilt, so that no concurrent update is lost.
+     *
+     * @param source a function that passes all POS to index to the given consumer (e.g., {@link PosDataService#streamAll})
+     */
+    public void rebuild(@NonNull Consumer<Consumer<Pos>> source) {
+        lock.writeLock().lock();
+        try {
+            clearUnlocked();
+            source.accept(this::putUnlocked);
+            log.info("Indexed {} POS for search with {} distinct name trigrams", posBySlot.size(), nameIndex.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes all POS from the index.
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            clearUnlocked();
+            tombstones.addAll();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the POS that match the given query best.
+     *
+     * @param query the search query
+     * @param limit the maximum number of POS to return
+     * @return up to {@code limit} matching POS, ordered by descending relevance
+     */
+    public @NonNull List<Pos> search(@NonNull String query, int limit) {
+        String normalizedQuery = normalize(query);
+        Set<String> queryTrigrams = trigrams(normalizedQuery, true);
+        if (queryTrigrams.isEmpty()) {
+            return List.of();
+        }
+        int minMatches = (int) Math.ceil(SIMILARITY_THRESHOLD * queryTrigrams.size());
+
+        lock.readLock().lock();
+        try {
+            int[] nameMatches = countMatches(nameIndex, queryTrigrams);
+            int[] descriptionMatches = countMatches(descriptionIndex, queryTrigrams);
+
+            // min-heap of the best matches found so far
+            PriorityQueue<Match> best = new PriorityQueue<>(Comparator.comparingDouble(Match::score)
+                    .thenComparing(Comparator.comparingInt(Match::slot).reversed()));
+            for (int slot = 0; slot < posBySlot.size(); slot++) {
+                double score = 0;
+                if (nameMatches[slot] >= minMatches) {
+                    score = (double) nameMatches[slot] / queryTrigrams.size();
+                    if (hasWordWithPrefix(normalizedNameBySlot.get(slot), normalizedQuery)) {
+                        score += PREFIX_MATCH_BONUS;
+                    }
+                }
+                if (descriptionMatches[slot] >= minMatches) {
+                    score = Math.max(score, DESCRIPTION_WEIGHT * descriptionMatches[slot] / queryTrigrams.size());
+                }
+                if (score > 0 && (best.size() < limit || score > best.peek().score())) {
+                    best.add(new Match(slot, score));
+                    if (best.size() > limit) {
+                        best.poll();
+                    }
+                }
+            }
+
+            Match[] matches = best.toArray(Match[]::new);
+            Arrays.sort(matches, best.comparator().reversed());
+            return Arrays.stream(matches).map(match -> posBySlot.get(match.slot())).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of indexed POS.
+     *
+     * @return the number of POS in the index
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return posBySlot.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int[] countMatches(Map<String, Postings> index, Set<String> queryTrigrams) {
+        int[] matches = new int[posBySlot.size()];
+        for (String trigram : queryTrigrams) {
+            Postings postings = index.get(trigram);
+            if (postings != null) {
+                for (int i = 0; i < postings.size; i++) {
+                    matches[postings.slots[i]]++;
+                }
+            }
+        }
+        return matches;
+    }
+
+    private void putUnlocked(Pos pos) {
+        Integer slot = slotById.get(pos.id());
+        if ((slot != null && PosVersions.isOutdated(pos, posBySlot.get(slot))) || tombstones.isRemoved(pos)) {
+            log.debug("Ignoring outdated version of POS {}", pos.id());
+            return;
+        }
+        if (slot == null) {
+            slot = posBySlot.size();
+            slotById.put(pos.id(), slot);
+            posBySlot.add(pos);
+            normalizedNameBySlot.add(normalize(pos.name()));
+        } else {
+            Pos replaced = posBySlot.set(slot, pos);
+            normalizedNameBySlot.set(slot, normalize(pos.name()));
+            removePostings(nameIndex, slot, replaced.name());
+            removePostings(descriptionIndex, slot, replaced.description());
+        }
+        addPostings(nameIndex, slot, pos.name());
+        addPostings(descriptionIndex, slot, pos.description());
+    }
+
+    private void removeUnlocked(Long id) {
+        Integer slot = slotById.remove(id);
+        if (slot == null) {
+            return;
+        }
+        Pos removed = posBySlot.get(slot);
+        removePostings(nameIndex, slot, removed.name());
+        removePostings(descriptionIndex, slot, removed.description());
+
+        // move the POS of the last slot to the free slot, so that slots stay contiguous
+        int lastSlot = posBySlot.size() - 1;
+        if (slot != lastSlot) {
+            Pos moved = posBySlot.get(lastSlot);
+            removePostings(nameIndex, lastSlot, moved.name());
+            removePostings(descriptionIndex, lastSlot, moved.description());
+            posBySlot.set(slot, moved);
+            normalizedNameBySlot.set(slot, normalizedNameBySlot.get(lastSlot));
+            slotById.put(moved.id(), slot);
+            addPostings(nameIndex, slot, moved.name());
+            addPostings(descriptionIndex, slot, moved.description());
+        }
+        posBySlot.removeLast();
+        normalizedNameBySlot.removeLast();
+    }
+
+    private static void addPostings(Map<String, Postings> index, int slot, String text) {
+        for (String trigram : trigrams(normalize(text), false)) {
+            index.computeIfAbsent(trigram, key -> new Postings()).add(slot);
+        }
+    }
+
+    private static void removePostings(Map<String, Postings> index, int slot, String text) {
+        for (String trigram : trigrams(normalize(text), false)) {
+            Postings postings = index.get(trigram);
+            if (postings != null && postings.remove(slot) && postings.size == 0) {
+                index.remove(trigram);
+            }
+        }
+    }
+
+    private void clearUnlocked() {
+        slotById.clear();
+        posBySlot.clear();
+        normalizedNameBySlot.clear();
+        nameIndex.clear();
+        descriptionIndex.clear();
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT).strip();
+    }
+
+    private static boolean hasWordWithPrefix(String normalizedText, String prefix) {
+        return normalizedText.startsWith(prefix) || normalizedText.contains(" " + prefix);
+    }
+
+    /**
+     * Splits a normalized text into the trigrams of its words.
+     *
+     * @param normalizedText the lower-case text
+     * @param prefix         whether the last word may be incomplete, i.e., is not padded at the end
+     * @return the distinct trigrams
+     */
+    static Set<String> trigrams(String normalizedText, boolean prefix) {
+        Set<String> trigrams = new HashSet<>();
+        String[] words = normalizedText.split("[^\\p{L}\\p{N}]+");
+        for (int i = 0; i < words.length; i++) {
+            if (words[i].isEmpty()) {
+                continue;
+            }
+            String padded = "  " + words[i] + (prefix && i == words.length - 1 ? "" : " ");
+            for (int j = 0; j + 3 <= padded.length(); j++) {
+                trigrams.add(padded.substring(j, j + 3));
+            }
+        }
+        return trigrams;
+    }
+
+    private record Match(int slot, double score) {}
+
+    /**
+     * Growable array of the slots of the POS containing a trigram.
+     * Removal is linear, but only happens when an indexed POS is updated.
+     */
+    private static final class Postings {
+        private int[] slots = new int[4];
+        private int size;
+
+        void add(int slot) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            slots[size++] = slot;
+        }
+
+        boolean remove(int slot) {
+            for (int i = 0; i < size; i++) {
+                if (slots[i] == slot) {
+                    slots[i] = slots[--size];
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -3,52 +3,226 @@ package de.seuhd.campuscoffee.domain.impl;
 import de.seuhd.campuscoffee.domain.exceptions.DuplicatePosNameException;
 import de.seuhd.campuscoffee.domain.exceptions.OsmNodeMissingFieldsException;
 import de.seuhd.campuscoffee.domain.exceptions.OsmNodeNotFoundException;
-import de.seuhd.campuscoffee.domain.model.CampusType;
+import de.seuhd.campuscoffee.domain.exceptions.OsmServiceUnavailableException;
+import de.seuhd.campuscoffee.domain.exceptions.PosImportFailedException;
+import de.seuhd.campuscoffee.domain.model.NearbyPos;
+import de.seuhd.campuscoffee.domain.model.OsmImportResult;
+import de.seuhd.campuscoffee.domain.model.OsmImportStatus;
 import de.seuhd.campuscoffee.domain.model.OsmNode;
 import de.seuhd.campuscoffee.domain.model.Pos;
+import de.seuhd.campuscoffee.domain.model.PosBatchResult;
+import de.seuhd.campuscoffee.domain.model.PosBatchStatus;
+import de.seuhd.campuscoffee.domain.model.PosCatalogVersion;
+import de.seuhd.campuscoffee.domain.model.PosChangePage;
+import de.seuhd.campuscoffee.domain.model.PosChangeType;
+import de.seuhd.campuscoffee.domain.model.PosDelta;
+import de.seuhd.campuscoffee.domain.model.PosFilter;
+import de.seuhd.campuscoffee.domain.model.PosImportSummary;
+import de.seuhd.campuscoffee.domain.model.PosUpsertResult;
 import de.seuhd.campuscoffee.domain.exceptions.PosNotFoundException;
-import de.seuhd.campuscoffee.domain.model.PosType;
 import de.seuhd.campuscoffee.domain.ports.OsmDataService;
 import de.seuhd.campuscoffee.domain.ports.PosDataService;
 import de.seuhd.campuscoffee.domain.ports.PosService;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
 
 /**
  * Implementation of the POS service that handles business logic related to POS entities.
+ * The latency of each public method is recorded as timer {@code campuscoffee.pos.service}, tagged with the method name.
  */
 @Slf4j
 @Service
+@Timed(value = "campuscoffee.pos.service", description = "Latency of POS service operations")
 @RequiredArgsConstructor
 public class PosServiceImpl implements PosService {
+    /**
+     * Writes that are in progress while a delta is read may commit with an earlier update timestamp than the
+     * returned watermark, so the watermark lags behind the current time and consecutive deltas overlap.
+     */
+    private static final Duration DELTA_WATERMARK_OVERLAP = Duration.ofSeconds(10);
+
     private final PosDataService posDataService;
     private final OsmDataService osmDataService;
+    private final PosCache posCache;
+    private final PosSpatialIndex posSpatialIndex;
+    private final PosSearchIndex posSearchIndex;
+    private final PosChangeFeed posChangeFeed;
+    private final PosReadModel posReadModel;
+    private final OsmNodeConverter osmNodeConverter;
+    @Value("${campus-coffee.osm.import.max-concurrency:8}")
+    private final int osmImportMaxConcurrency;
+    @Value("${campus-coffee.osm.import.batch-size:200}")
+    private final int osmImportBatchSize;
+    @Value("${campus-coffee.pos.batch.chunk-size:200}")
+    private final int batchChunkSize;
+    @Value("${campus-coffee.pos.sync.tombstone-retention:30d}")
+    private final Duration tombstoneRetention;
+    // the in-memory index only sees the writes of this instance; use the database if several instances share it
+    @Value("${campus-coffee.search.in-memory:true}")
+    private final boolean inMemorySearch;
 
     @Override
     public void clear() {
         log.warn("Clearing all POS data");
         posDataService.clear();
+        posDataService.purgeTombstones(now().minus(tombstoneRetention));
+        posCache.invalidateAll();
+        posSpatialIndex.clear();
+        posSearchIndex.clear();
+        posReadModel.clear();
+        posChangeFeed.publishCleared();
     }
 
     @Override
     public @NonNull List<Pos> getAll() {
         log.debug("Retrieving all POS");
-        return posDataService.getAll();
+        if (posReadModel.isLoaded()) {
+            return posReadModel.getAll(PosFilter.NONE);
+        }
+        return posCache.getAll(posDataService::getAll);
+    }
+
+    @Override
+    public @NonNull PosCatalogVersion getCatalogVersion() {
+        if (posReadModel.isLoaded()) {
+            return posReadModel.getCatalogVersion();
+        }
+        return posDataService.getCatalogVersion();
+    }
+
+    @Override
+    public @NonNull List<Pos> getAll(@NonNull PosFilter filter) {
+        if (filter.isEmpty()) {
+            return getAll();
+        }
+        log.debug("Retrieving all POS matching {}", filter);
+        if (posReadModel.isLoaded()) {
+            return posReadModel.getAll(filter);
+        }
+        return posDataService.getAll(filter);
+    }
+
+    @Override
+    public @NonNull PosDelta getDelta(@NonNull LocalDateTime updatedSince) {
+        LocalDateTime now = now();
+        LocalDateTime watermark = now.minus(DELTA_WATERMARK_OVERLAP);
+        if (updatedSince.isBefore(now.minus(tombstoneRetention))) {
+            log.debug("Tombstones since {} may have been purged, returning all POS", updatedSince);
+            return new PosDelta(getAll(), List.of(), watermark, true);
+        }
+        log.debug("Retrieving POS changed since {}", updatedSince);
+        // updates are read before deletions, so that a POS deleted in between is reported as deleted
+        List<Pos> updated = posDataService.getUpdatedSince(updatedSince);
+        List<Long> deletedIds = posDataService.getDeletedSince(updatedSince);
+        return new PosDelta(updated, deletedIds, watermark, false);
+    }
+
+    @Override
+    public @NonNull List<Pos> getPage(@NonNull PosFilter filter, @Nullable Long after, int limit) throws IllegalArgumentException {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page limit must be between 1 and " + MAX_PAGE_SIZE + ".");
+        }
+        log.debug("Retrieving up to {} POS matching {} after ID {}", limit, filter, after);
+        if (posReadModel.isLoaded()) {
+            return posReadModel.getPage(filter, after, limit);
+        }
+        return posDataService.getPage(filter, after, limit);
+    }
+
+    @Override
+    public void streamAll(@NonNull Consumer<Pos> consumer) {
+        log.debug("Streaming all POS");
+        if (posReadModel.isLoaded()) {
+            posReadModel.getAll(PosFilter.NONE).forEach(consumer);
+            return;
+        }
+        posDataService.streamAll(consumer);
+    }
+
+    @Override
+    public @NonNull List<NearbyPos> getNearby(double latitude, double longitude, double radius, int limit)
+            throws IllegalArgumentException {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("Latitude must be between -90 and 90 and longitude between -180 and 180.");
+        }
+        if (!(radius > 0 && radius <= MAX_NEARBY_RADIUS)) {
+            throw new IllegalArgumentException("Radius must be positive and at most " + (int) MAX_NEARBY_RADIUS + " meters.");
+        }
+        if (limit < 1 || limit > MAX_NEARBY_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_NEARBY_LIMIT + ".");
+        }
+        log.debug("Retrieving up to {} POS within {} m of ({}, {})", limit, radius, latitude, longitude);
+        return posSpatialIndex.findNearest(latitude, longitude, radius, limit);
+    }
+
+    @Override
+    public @NonNull List<Pos> search(@NonNull String query, int limit) throws IllegalArgumentException {
+        if (query.isBlank()) {
+            throw new IllegalArgumentException("Search query must not be blank.");
+        }
+        if (limit < 1 || limit > MAX_SEARCH_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_SEARCH_LIMIT + ".");
+        }
+        log.debug("Searching up to {} POS matching '{}'", limit, query);
+        return inMemorySearch
+                ? posSearchIndex.search(query, limit)
+                : posDataService.search(query.strip(), limit);
+    }
+
+    @Override
+    public @NonNull PosChangePage getChanges(@Nullable Long after, int limit, @NonNull Duration timeout)
+            throws IllegalArgumentException {
+        if (after != null && after < 0) {
+            throw new IllegalArgumentException("Sequence must not be negative.");
+        }
+        if (limit < 1 || limit > MAX_CHANGES_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_CHANGES_LIMIT + ".");
+        }
+        if (timeout.isNegative() || timeout.compareTo(MAX_CHANGES_TIMEOUT) > 0) {
+            throw new IllegalArgumentException("Timeout must be between 0 and " + MAX_CHANGES_TIMEOUT.toSeconds() + " seconds.");
+        }
+        return posChangeFeed.getChanges(after, limit, timeout);
     }
 
     @Override
     public @NonNull Pos getById(@NonNull Long id) throws PosNotFoundException {
         log.debug("Retrieving POS with ID: {}", id);
-        return posDataService.getById(id);
+        if (posReadModel.isLoaded()) {
+            Pos pos = posReadModel.getById(id);
+            if (pos == null) {
+                throw new PosNotFoundException(id);
+            }
+            return pos;
+        }
+        return posCache.getById(id, posDataService::getById);
     }
 
     @Override
-    public @NonNull Pos upsert(@NonNull Pos pos) throws PosNotFoundException {
+    public @NonNull Pos upsert(@NonNull Pos pos) throws PosNotFoundException, IllegalArgumentException {
+        validateCoordinates(pos);
         if (pos.id() == null) {
             // Create new POS
             log.info("Creating new POS: {}", pos.name());
@@ -58,243 +232,311 @@ public class PosServiceImpl implements PosService {
             log.info("Updating POS with ID: {}", pos.id());
             // POS ID must be set
             Objects.requireNonNull(pos.id());
-            // POS must exist in the database before the update
-            posDataService.getById(pos.id());
+            // The data service checks that the POS exists as part of the update statement
             return performUpsert(pos);
         }
     }
 
     @Override
-    public @NonNull Pos importFromOsmNode(@NonNull Long nodeId) throws OsmNodeNotFoundException {
-        log.info("Importing POS from OpenStreetMap node {}...", nodeId);
-
-        // Fetch the OSM node data using the port
-        OsmNode osmNode = osmDataService.fetchNode(nodeId);
-
-        // Convert OSM node to POS domain object and upsert it
-        // TODO: Implement the actual conversion (the response is currently hard-coded).
-        Pos savedPos = upsert(convertOsmNodeToPos(osmNode));
-        log.info("Successfully imported POS '{}' from OSM node {}", savedPos.name(), nodeId);
-
-        return savedPos;
+    public @NonNull List<Pos> upsertAll(@NonNull List<Pos> posList)
+            throws PosNotFoundException, DuplicatePosNameException, IllegalArgumentException {
+        posList.forEach(PosServiceImpl::validateCoordinates);
+        log.info("Upserting {} POS", posList.size());
+        try {
+            List<Pos> upsertedPosList = posDataService.upsertAll(posList);
+            upsertedPosList.forEach(posCache::put);
+            upsertedPosList.forEach(posSpatialIndex::put);
+            upsertedPosList.forEach(posSearchIndex::put);
+            posReadModel.putAll(upsertedPosList);
+            for (int i = 0; i < posList.size(); i++) {
+                posChangeFeed.publish(changeType(posList.get(i)), upsertedPosList.get(i));
+            }
+            log.info("Successfully upserted {} POS", upsertedPosList.size());
+            return upsertedPosList;
+        } catch (PosNotFoundException | DuplicatePosNameException e) {
+            log.error("Error upserting {} POS: {}", posList.size(), e.getMessage());
+            throw e;
+        }
     }
 
-    /**
-     * Converts an OSM node to a POS domain object.
-     * <p>
-     * This method validates that all required fields are present in the OSM node,
-     * maps OSM amenity types to POS types, determines the campus based on coordinates,
-     * and constructs a complete POS object ready for persistence.
-     *
-     * @param osmNode the OSM node containing location and tag data
-     * @return a fully populated POS domain object
-     * @throws OsmNodeMissingFieldsException if required fields are missing
-     */
-    private @NonNull Pos convertOsmNodeToPos(@NonNull OsmNode osmNode) {
-        log.debug("Converting OSM node {} to POS", osmNode.nodeId());
-
-        // Validate required fields
-        validateRequiredFields(osmNode);
-
-        // Extract and map fields
-        String name = osmNode.name();
-        String description = extractDescription(osmNode);
-        PosType type = mapAmenityToType(osmNode.amenity());
-        CampusType campus = determineCampus(osmNode.latitude(), osmNode.longitude());
-        String street = osmNode.street();
-        String houseNumber = osmNode.houseNumber();
-        Integer postalCode = parsePostalCode(osmNode.postcode());
-        String city = osmNode.city();
-
-        return Pos.builder()
-                .name(name)
-                .description(description)
-                .type(type)
-                .campus(campus)
-                .street(street)
-                .houseNumber(houseNumber)
-                .postalCode(postalCode)
-                .city(city)
-                .build();
+    @Override
+    public void delete(@NonNull Long id) throws PosNotFoundException {
+        log.info("Deleting POS with ID: {}", id);
+        posDataService.delete(id);
+        posDataService.purgeTombstones(now().minus(tombstoneRetention));
+        posCache.remove(id);
+        posSpatialIndex.remove(id);
+        posSearchIndex.remove(id);
+        posReadModel.remove(id);
+        posChangeFeed.publishDeleted(id);
     }
 
-    /**
-     * Validates that all required fields for creating a POS are present in the OSM node.
-     * <p>
-     * Required fields:
-     * <ul>
-     *   <li>name - The establishment's name</li>
-     *   <li>addr:street - Street address</li>
-     *   <li>addr:housenumber - House number</li>
-     *   <li>addr:postcode - Postal code</li>
-     *   <li>addr:city - City name</li>
-     * </ul>
-     *
-     * @param osmNode the OSM node to validate
-     * @throws OsmNodeMissingFieldsException if any required field is missing
-     */
-    private void validateRequiredFields(@NonNull OsmNode osmNode) {
-        List<String> missingFields = new java.util.ArrayList<>();
-
-        if (osmNode.name() == null || osmNode.name().isEmpty()) {
-            missingFields.add("name");
-        }
-        if (osmNode.street() == null || osmNode.street().isEmpty()) {
-            missingFields.add("addr:street");
-        }
-        if (osmNode.houseNumber() == null || osmNode.houseNumber().isEmpty()) {
-            missingFields.add("addr:housenumber");
-        }
-        if (osmNode.postcode() == null || osmNode.postcode().isEmpty()) {
-            missingFields.add("addr:postcode");
+    @Override
+    public @NonNull List<PosBatchResult> upsertBatch(@NonNull List<Pos> posList) throws IllegalArgumentException {
+        if (posList.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BATCH_SIZE + " POS can be created or updated at once.");
         }
-        if (osmNode.city() == null || osmNode.city().isEmpty()) {
-            missingFields.add("addr:city");
+        log.info("Upserting batch of {} POS in chunks of {}", posList.size(), batchChunkSize);
+        PosBatchResult[] results = new PosBatchResult[posList.size()];
+        for (int start = 0; start < posList.size(); start += batchChunkSize) {
+            upsertChunk(posList, start, Math.min(start + batchChunkSize, posList.size()), results);
         }
+        log.info("Upserted {} of {} POS",
+                Arrays.stream(results).filter(result -> result.pos() != null).count(), results.length);
+        return List.of(results);
+    }
 
-        if (!missingFields.isEmpty()) {
-            log.warn("OSM node {} is missing required fields: {}", osmNode.nodeId(), missingFields);
-            throw new OsmNodeMissingFieldsException(osmNode.nodeId(), missingFields);
+    @Override
+    public @NonNull PosImportSummary importAll(@NonNull Iterator<Pos> posIterator) throws PosImportFailedException {
+        log.info("Importing POS in chunks of {}", batchChunkSize);
+        int imported = 0;
+        int created = 0;
+        int updated = 0;
+        List<Pos> chunk = new ArrayList<>(batchChunkSize);
+        try {
+            while (posIterator.hasNext()) {
+                Pos pos = posIterator.next();
+                validateCoordinates(pos);
+                chunk.add(pos);
+                if (chunk.size() == batchChunkSize || !posIterator.hasNext()) {
+                    List<PosUpsertResult> results = posDataService.upsertAllByName(chunk);
+                    posReadModel.putAll(results.stream().map(PosUpsertResult::pos).toList());
+                    for (PosUpsertResult result : results) {
+                        posCache.put(result.pos());
+                        posSpatialIndex.put(result.pos());
+                        posSearchIndex.put(result.pos());
+                        if (result.created()) {
+                            posChangeFeed.publish(PosChangeType.CREATED, result.pos());
+                            created++;
+                        } else {
+                            posChangeFeed.publish(PosChangeType.UPDATED, result.pos());
+                            updated++;
+                        }
+                    }
+                    imported += chunk.size();
+                    log.debug("Imported {} POS so far", imported);
+                    chunk.clear();
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            log.error("Import failed after {} POS: {}", imported, e.getMessage());
+            throw new PosImportFailedException(imported, e);
         }
+        log.info("Imported POS: {} created, {} updated", created, updated);
+        return new PosImportSummary(created, updated);
     }
 
     /**
-     * Maps OSM amenity tag to POS type.
+     * Persists a chunk of a batch in a single transaction and records a result per POS.
      * <p>
-     * Mapping:
-     * <ul>
-     *   <li>"cafe" → CAFE</li>
-     *   <li>"bakery" → BAKERY</li>
-     *   <li>"restaurant", "fast_food" → CAFETERIA</li>
-     *   <li>"vending_machine" → VENDING_MACHINE</li>
-     *   <li>null or unknown → CAFE (default)</li>
-     * </ul>
+     * If the chunk cannot be persisted because of one of its POS (e.g., because one of the names already exists),
+     * it is split in halves that are persisted separately, so that only the affected POS fail and the others
+     * are still persisted with few transactions.
      *
-     * @param amenity the OSM amenity tag value (may be null)
-     * @return the corresponding POS type
+     * @param posList the POS of the batch
+     * @param start   the index of the first POS of the chunk (inclusive)
+     * @param end     the index of the last POS of the chunk (exclusive)
+     * @param results the array to store the results in, indexed like the batch
      */
-    private PosType mapAmenityToType(String amenity) {
-        if (amenity == null) {
-            log.debug("No amenity tag found, defaulting to CAFE");
-            return PosType.CAFE;
+    private void upsertChunk(@NonNull List<Pos> posList, int start, int end, @NonNull PosBatchResult[] results) {
+        List<Pos> chunk = posList.subList(start, end);
+        try {
+            List<Pos> upsertedPosList = upsertAll(chunk);
+            for (int i = 0; i < chunk.size(); i++) {
+                results[start + i] = PosBatchResult.builder()
+                        .index(start + i)
+                        .status(chunk.get(i).id() == null ? PosBatchStatus.CREATED : PosBatchStatus.UPDATED)
+                        .pos(upsertedPosList.get(i))
+                        .build();
+            }
+        } catch (PosNotFoundException | DuplicatePosNameException | IllegalArgumentException e) {
+            if (chunk.size() == 1) {
+                results[start] = toFailedBatchResult(start, e);
+                return;
+            }
+            int middle = start + chunk.size() / 2;
+            upsertChunk(posList, start, middle, results);
+            upsertChunk(posList, middle, end, results);
+        } catch (RuntimeException e) {
+            // unexpected errors (e.g., an unavailable database) would most likely occur for every half as well
+            for (int i = start; i < end; i++) {
+                results[i] = toFailedBatchResult(i, e);
+            }
         }
+    }
 
-        return switch (amenity.toLowerCase()) {
-            case "cafe" -> PosType.CAFE;
-            case "bakery" -> PosType.BAKERY;
-            case "restaurant", "fast_food" -> PosType.CAFETERIA;
-            case "vending_machine" -> PosType.VENDING_MACHINE;
+    /**
+     * Creates the batch result for a POS that could not be persisted.
+     *
+     * @param index the position of the POS in the batch
+     * @param cause the exception that caused the operation to fail
+     * @return the batch result with the status derived from the exception type
+     */
+    private @NonNull PosBatchResult toFailedBatchResult(int index, @NonNull RuntimeException cause) {
+        PosBatchStatus status = switch (cause) {
+            case PosNotFoundException ignored -> PosBatchStatus.NOT_FOUND;
+            case DuplicatePosNameException ignored -> PosBatchStatus.DUPLICATE_NAME;
+            case IllegalArgumentException ignored -> PosBatchStatus.INVALID;
             default -> {
-                log.debug("Unknown amenity type '{}', defaulting to CAFE", amenity);
-                yield PosType.CAFE;
+                log.error("Unexpected error upserting POS {} of batch", index, cause);
+                yield PosBatchStatus.FAILED;
             }
         };
+        return PosBatchResult.builder()
+                .index(index)
+                .status(status)
+                .message(cause.getMessage())
+                .build();
     }
 
-    /**
-     * Determines campus based on geographical coordinates.
-     * <p>
-     * Uses simple bounding box approach for Heidelberg campuses:
-     * <ul>
-     *   <li>Altstadt: latitude 49.408-49.414, longitude 8.705-8.715</li>
-     *   <li>Bergheim: latitude 49.412-49.418, longitude 8.665-8.680</li>
-     *   <li>INF (Neuenheimer Feld): latitude 49.415-49.425, longitude 8.665-8.675</li>
-     * </ul>
-     * <p>
-     * Note: This is a simplified implementation. For production use, consider
-     * using a proper geospatial library or service.
-     *
-     * @param latitude the latitude coordinate
-     * @param longitude the longitude coordinate
-     * @return the determined campus type
-     */
-    private CampusType determineCampus(Double latitude, Double longitude) {
-        // Altstadt campus (city center)
-        if (latitude >= 49.408 && latitude <= 49.414 &&
-            longitude >= 8.705 && longitude <= 8.715) {
-            log.debug("Coordinates match Altstadt campus");
-            return CampusType.ALTSTADT;
-        }
+    @Override
+    public @NonNull Pos importFromOsmNode(@NonNull Long nodeId) throws OsmNodeNotFoundException {
+        log.info("Importing POS from OpenStreetMap node {}...", nodeId);
+
+        // Fetch the OSM node data using the port
+        OsmNode osmNode = osmDataService.fetchNode(nodeId);
+
+        // Convert OSM node to POS domain object and upsert it
+        // TODO: Implement the actual conversion (the response is currently hard-coded).
+        Pos savedPos = upsert(osmNodeConverter.convert(osmNode));
+        log.info("Successfully imported POS '{}' from OSM node {}", savedPos.name(), nodeId);
+
+        return savedPos;
+    }
 
-        // Bergheim campus
-        if (latitude >= 49.412 && latitude <= 49.418 &&
-            longitude >= 8.665 && longitude <= 8.680) {
-            log.debug("Coordinates match Bergheim campus");
-            return CampusType.BERGHEIM;
+    @Override
+    public @NonNull List<OsmImportResult> importFromOsmNodes(@NonNull List<Long> nodeIds) throws IllegalArgumentException {
+        List<Long> distinctNodeIds = nodeIds.stream().distinct().toList();
+        if (distinctNodeIds.size() > MAX_OSM_IMPORT_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_OSM_IMPORT_SIZE + " OSM nodes can be imported at once.");
+        }
+        log.info("Importing {} POS from OpenStreetMap nodes...", distinctNodeIds.size());
+
+        // Fetch phase: the nodes are fetched in batches using the multi-fetch API of the OSM data service;
+        // each batch runs on its own virtual thread and the semaphore caps the number of concurrent OSM requests
+        Map<List<Long>, Future<Map<Long, OsmNode>>> fetches = new LinkedHashMap<>();
+        Semaphore permits = new Semaphore(osmImportMaxConcurrency);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < distinctNodeIds.size(); i += osmImportBatchSize) {
+                List<Long> batch = distinctNodeIds.subList(i, Math.min(i + osmImportBatchSize, distinctNodeIds.size()));
+                fetches.put(batch, executor.submit(() -> {
+                    permits.acquire();
+                    try {
+                        return osmDataService.fetchNodes(batch);
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+        } // closing the executor waits for all fetches to complete
+
+        Map<Long, OsmNode> fetchedNodes = new HashMap<>();
+        Map<Long, Throwable> fetchErrors = new HashMap<>();
+        for (Map.Entry<List<Long>, Future<Map<Long, OsmNode>>> fetch : fetches.entrySet()) {
+            try {
+                fetchedNodes.putAll(fetch.getValue().get());
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof OsmServiceUnavailableException unavailable) {
+                    // the remaining nodes would fail for the same reason; nothing has been persisted yet
+                    throw unavailable;
+                }
+                fetch.getKey().forEach(nodeId -> fetchErrors.put(nodeId, e.getCause()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fetch.getKey().forEach(nodeId -> fetchErrors.put(nodeId, e));
+            }
         }
 
-        // INF campus (Neuenheimer Feld)
-        if (latitude >= 49.415 && latitude <= 49.425 &&
-            longitude >= 8.665 && longitude <= 8.675) {
-            log.debug("Coordinates match INF campus");
-            return CampusType.INF;
+        // Conversion phase: convert the fetched nodes, collecting a result per node that cannot be imported
+        Map<Long, OsmImportResult> results = new HashMap<>();
+        Map<Long, Pos> convertedPos = new LinkedHashMap<>();
+        for (Long nodeId : distinctNodeIds) {
+            if (fetchErrors.containsKey(nodeId)) {
+                results.put(nodeId, toFailedImportResult(nodeId, fetchErrors.get(nodeId)));
+                continue;
+            }
+            OsmNode osmNode = fetchedNodes.get(nodeId);
+            if (osmNode == null) {
+                results.put(nodeId, toFailedImportResult(nodeId, new OsmNodeNotFoundException(nodeId)));
+                continue;
+            }
+            try {
+                convertedPos.put(nodeId, osmNodeConverter.convert(osmNode));
+            } catch (RuntimeException e) {
+                results.put(nodeId, toFailedImportResult(nodeId, e));
+            }
         }
 
-        // Default to Altstadt if no match
-        log.debug("Coordinates don't match known campus, defaulting to Altstadt");
-        return CampusType.ALTSTADT;
+        // Persist phase: store all converted POS in one batch
+        persistImportedPos(convertedPos, results);
+
+        List<OsmImportResult> orderedResults = distinctNodeIds.stream().map(results::get).toList();
+        log.info("Imported {} of {} POS from OpenStreetMap nodes",
+                orderedResults.stream().filter(result -> result.status() == OsmImportStatus.IMPORTED).count(),
+                orderedResults.size());
+        return orderedResults;
     }
 
     /**
-     * Parses postal code string to integer.
-     * <p>
-     * Handles various formats and returns null if parsing fails.
+     * Persists the POS converted from OSM nodes in a single batch and records an import result per node.
+     * If the batch cannot be persisted (e.g., because one of the names already exists), the POS are persisted
+     * one by one, so that only the affected nodes fail.
      *
-     * @param postcode the postal code string from OSM (may be null)
-     * @return the parsed integer postal code, or null if invalid
+     * @param convertedPos the converted POS by OSM node ID
+     * @param results the map to add the import results to
      */
-    private Integer parsePostalCode(String postcode) {
-        if (postcode == null || postcode.isEmpty()) {
-            return null;
+    private void persistImportedPos(@NonNull Map<Long, Pos> convertedPos, @NonNull Map<Long, OsmImportResult> results) {
+        if (convertedPos.isEmpty()) {
+            return;
         }
-
+        List<Long> nodeIds = List.copyOf(convertedPos.keySet());
         try {
-            return Integer.parseInt(postcode.trim());
-        } catch (NumberFormatException e) {
-            log.warn("Invalid postal code format: '{}', returning null", postcode);
-            return null;
+            List<Pos> savedPosList = upsertAll(List.copyOf(convertedPos.values()));
+            for (int i = 0; i < nodeIds.size(); i++) {
+                results.put(nodeIds.get(i), toImportedResult(nodeIds.get(i), savedPosList.get(i)));
+            }
+        } catch (DuplicatePosNameException e) {
+            log.warn("Batch import of {} POS failed, falling back to single upserts: {}", nodeIds.size(), e.getMessage());
+            for (Long nodeId : nodeIds) {
+                try {
+                    results.put(nodeId, toImportedResult(nodeId, upsert(convertedPos.get(nodeId))));
+                } catch (RuntimeException singleUpsertException) {
+                    results.put(nodeId, toFailedImportResult(nodeId, singleUpsertException));
+                }
+            }
         }
     }
 
+    private static @NonNull OsmImportResult toImportedResult(@NonNull Long nodeId, @NonNull Pos savedPos) {
+        return OsmImportResult.builder()
+                .nodeId(nodeId)
+                .status(OsmImportStatus.IMPORTED)
+                .pos(savedPos)
+                .build();
+    }
+
     /**
-     * Generates a description from available OSM data.
-     * <p>
-     * Combines amenity type and cuisine information if available.
-     * Falls back to a generic message if no descriptive data is present.
-     * <p>
-     * Examples:
-     * <ul>
-     *   <li>amenity="cafe", cuisine="coffee_shop" → "Cafe - coffee_shop"</li>
-     *   <li>amenity="bakery", cuisine=null → "Bakery"</li>
-     *   <li>amenity=null, cuisine=null → "Imported from OpenStreetMap"</li>
-     * </ul>
+     * Creates the import result for a node whose import failed.
      *
-     * @param osmNode the OSM node containing tag data
-     * @return a descriptive string for the POS
+     * @param nodeId the OSM node ID
+     * @param cause the exception that caused the import to fail
+     * @return the import result with the status derived from the exception type
      */
-    private String extractDescription(@NonNull OsmNode osmNode) {
-        StringBuilder desc = new StringBuilder();
-
-        if (osmNode.amenity() != null && !osmNode.amenity().isEmpty()) {
-            // Capitalize first letter of amenity type
-            String amenity = osmNode.amenity();
-            desc.append(Character.toUpperCase(amenity.charAt(0)))
-                .append(amenity.substring(1).replace('_', ' '));
-        }
-
-        if (osmNode.cuisine() != null && !osmNode.cuisine().isEmpty()) {
-            if (desc.length() > 0) {
-                desc.append(" - ");
+    private @NonNull OsmImportResult toFailedImportResult(@NonNull Long nodeId, @NonNull Throwable cause) {
+        OsmImportStatus status = switch (cause) {
+            case OsmNodeNotFoundException ignored -> OsmImportStatus.NOT_FOUND;
+            case OsmNodeMissingFieldsException ignored -> OsmImportStatus.MISSING_FIELDS;
+            case DuplicatePosNameException ignored -> OsmImportStatus.DUPLICATE_NAME;
+            default -> {
+                log.error("Unexpected error importing OSM node {}", nodeId, cause);
+                yield OsmImportStatus.FAILED;
             }
-            desc.append(osmNode.cuisine().replace('_', ' '));
-        }
-
-        // Fallback to generic description if nothing was found
-        if (desc.length() == 0) {
-            return "Imported from OpenStreetMap";
-        }
-
-        return desc.toString();
+        };
+        return OsmImportResult.builder()
+                .nodeId(nodeId)
+                .status(status)
+                .message(cause.getMessage())
+                .build();
     }
 
     /**
@@ -309,6 +551,11 @@ public class PosServiceImpl implements PosService {
     private @NonNull Pos performUpsert(@NonNull Pos pos) throws DuplicatePosNameException {
         try {
             Pos upsertedPos = posDataService.upsert(pos);
+            posCache.put(upsertedPos);
+            posSpatialIndex.put(upsertedPos);
+            posSearchIndex.put(upsertedPos);
+            posReadModel.put(upsertedPos);
+            posChangeFeed.publish(changeType(pos), upsertedPos);
             log.info("Successfully upserted POS with ID: {}", upsertedPos.id());
             return upsertedPos;
         } catch (DuplicatePosNameException e) {
@@ -316,4 +563,35 @@ public class PosServiceImpl implements PosService {
             throw e;
         }
     }
+
+    /**
+     * Determines the type of change published for an upserted POS.
+     *
+     * @param pos the POS as passed to the upsert
+     * @return {@link PosChangeType#CREATED} if the POS had no ID, {@link PosChangeType#UPDATED} otherwise
+     */
+    private static PosChangeType changeType(@NonNull Pos pos) {
+        return pos.id() == null ? PosChangeType.CREATED : PosChangeType.UPDATED;
+    }
+
+    /**
+     * Validates the coordinates of a POS before it is persisted, so that invalid coordinates are reported as
+     * invalid arguments instead of violating the constraints of the data store.
+     *
+     * @param pos the POS to validate
+     * @throws IllegalArgumentException if only one coordinate is set or a coordinate is out of range
+     */
+    private static void validateCoordinates(@NonNull Pos pos) throws IllegalArgumentException {
+        if ((pos.latitude() == null) != (pos.longitude() == null)) {
+            throw new IllegalArgumentException("Latitude and longitude must either both be set or both be omitted.");
+        }
+        if (pos.latitude() != null && !(pos.latitude() >= -90 && pos.latitude() <= 90
+                && pos.longitude() >= -180 && pos.longitude() <= 180)) {
+            throw new IllegalArgumentException("Latitude must be between -90 and 90 and longitude between -180 and 180.");
+        }
+    }
+
+    private static LocalDateTime now() {
+        return LocalDateTime.now(ZoneId.of("UTC"));
+    }
 }
@@ -0,0 +1,274 @@
+package de.seuhd.campuscoffee.domain.impl;
+
+import de.seuhd.campuscoffee.domain.model.NearbyPos;
+import de.seuhd.campuscoffee.domain.model.Pos;
+import de.seuhd.campuscoffee.domain.ports.PosDataService;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * In-memory spatial index of all POS with coordinates, used to answer nearest-neighbor queries without
+ * accessing the database.
+ * <p>
+ * POS are assigned to the cells of a grid with a fixed size in degrees. A query visits the cells in rings of
+ * increasing distance around the cell of the search location and stops as soon as no cell of the next ring
+ * can contain a POS that is closer than the ones found so far (or outside the search radius). Longitude cells wrap
+ * around at the antimeridian. Near the poles, where the cells become very narrow, and for radii that would visit
+ * more cells than there are POS, all POS are scanned instead.
+ * <p>
+ * The index is kept in sync by the {@link PosServiceImpl} on every write and built from the data store
+ * once the application has started (see {@link PosIndexLoader}). Reads and writes are thread-safe.
+ */
+@Slf4j
+@Component
+public class PosSpatialIndex {
+    /**
+     * Side length of a grid cell in degrees; about 1.1 km in north-south direction.
+     */
+    static final double CELL_SIZE_DEGREES = 0.01;
+    private static final long LONGITUDE_CELLS = Math.round(360 / CELL_SIZE_DEGREES);
+    private static final double EARTH_RADIUS_METERS = 6_371_000;
+    private static final double METERS_PER_DEGREE_LATITUDE = Math.PI * EARTH_RADIUS_METERS / 180;
+
+    // all POS, including those without coordinates, so that outdated versions can be detected
+    private final Map<Long, Pos> posById = new HashMap<>();
+    private final Map<Long, Map<Long, Pos>> cells = new HashMap<>();
+    private int locatedCount;
+    private final PosTombstones tombstones = new PosTombstones();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Adds a POS to the index or replaces the indexed version of it, unless the indexed version is newer
+     * or the POS has been removed since this version was written. POS without coordinates are never returned by queries.
+     *
+     * @param pos the POS to index; must have an ID
+     */
+    public void put(@NonNull Pos pos) {
+        lock.writeLock().lock();
+        try {
+            putUnlocked(pos);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a POS from the index.
+     *
+     * @param id the ID of the POS to remove
+     */
+    public void remove(@NonNull Long id) {
+        lock.writeLock().lock();
+        try {
+            removeUnlocked(id);
+            tombstones.add(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces the content of the index with the POS passed by the given source.
+     * Writes are blocked while the index is rebuilt, so that no concurrent update is lost.
+     *
+     * @param source a function that passes all POS to index to the given consumer (e.g., {@link PosDataService#streamAll})
+     */
+    public void rebuild(@NonNull Consumer<Consumer<Pos>> source) {
+        lock.writeLock().lock();
+        try {
+            clearUnlocked();
+            source.accept(this::putUnlocked);
+            log.info("Indexed {} POS with coordinates", locatedCount);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes all POS from the index.
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            clearUnlocked();
+            tombstones.addAll();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the POS closest to the given location.
+     *
+     * @param latitude  the latitude of the search location
+     * @param longitude the longitude of the search location
+     * @param radius    the maximum distance of returned POS in meters
+     * @param limit     the maximum number of POS to return
+     * @return up to {@code limit} POS within the radius, ordered by ascending distance
+     */
+    public @NonNull List<NearbyPos> findNearest(double latitude, double longitude, double radius, int limit) {
+        // The cell width shrinks towards the poles; the latitude closest to a pole within the radius
+        // gives a lower bound for the width of all cells that can contain results.
+        double maxAbsLatitude = Math.min(90, Math.abs(latitude) + radius / METERS_PER_DEGREE_LATITUDE);
+        double minCellSizeMeters = CELL_SIZE_DEGREES * METERS_PER_DEGREE_LATITUDE * Math.cos(Math.toRadians(maxAbsLatitude));
+        // the side length (in cells) of the square of rings that covers the radius; about infinite at the poles
+        double maxRingWidth = 2 * (radius / minCellSizeMeters + 1) + 1;
+
+        // max-heap of the closest POS found so far
+        PriorityQueue<NearbyPos> nearest = new PriorityQueue<>(
+                Comparator.comparingDouble(NearbyPos::distance).reversed());
+        long centerLatCell = cellIndex(latitude);
+        long centerLonCell = cellIndex(longitude);
+
+        lock.readLock().lock();
+        try {
+            if (maxRingWidth >= LONGITUDE_CELLS || maxRingWidth * maxRingWidth > locatedCount) {
+                for (Map<Long, Pos> cell : cells.values()) {
+                    collectNearest(cell.values(), latitude, longitude, radius, limit, nearest);
+                }
+                return sortByDistance(nearest);
+            }
+            for (int ring = 0; ; ring++) {
+                // cells in this ring are separated from the cell of the search location by (ring - 1) full cells
+                double minRingDistance = Math.max(ring - 1, 0) * minCellSizeMeters;
+                if (minRingDistance > radius
+                        || (nearest.size() == limit && minRingDistance > nearest.peek().distance())) {
+                    break;
+                }
+                for (long latCell = centerLatCell - ring; latCell <= centerLatCell + ring; latCell++) {
+                    boolean edgeRow = Math.abs(latCell - centerLatCell) == ring;
+                    // inner rows of a ring only contain the first and the last cell
+                    long lonStep = edgeRow ? 1 : Math.max(2L * ring, 1);
+                    for (long lonCell = centerLonCell - ring; lonCell <= centerLonCell + ring; lonCell += lonStep) {
+                        Map<Long, Pos> cell = cells.get(cellKey(latCell, wrapLongitudeCell(lonCell)));
+                        if (cell != null) {
+                            collectNearest(cell.values(), latitude, longitude, radius, limit, nearest);
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return sortByDistance(nearest);
+    }
+
+    /**
+     * Returns the number of indexed POS.
+     *
+     * @return the number of POS with coordinates in the index
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return locatedCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static List<NearbyPos> sortByDistance(Collection<NearbyPos> nearest) {
+        List<NearbyPos> result = new ArrayList<>(nearest);
+        result.sort(Comparator.comparingDouble(NearbyPos::distance));
+        return result;
+    }
+
+    private static void collectNearest(Collection<Pos> candidates, double latitude, double longitude,
+                                       double radius, int limit, PriorityQueue<NearbyPos> nearest) {
+        for (Pos pos : candidates) {
+            double distance = distance(latitude, longitude, pos.latitude(), pos.longitude());
+            if (distance > radius) {
+                continue;
+            }
+            if (nearest.size() < limit) {
+                nearest.add(new NearbyPos(pos, distance));
+            } else if (distance < nearest.peek().distance()) {
+                nearest.poll();
+                nearest.add(new NearbyPos(pos, distance));
+            }
+        }
+    }
+
+    private void putUnlocked(Pos pos) {
+        if (PosVersions.isOutdated(pos, posById.get(pos.id())) || tombstones.isRemoved(pos)) {
+            log.debug("Ignoring outdated version of POS {}", pos.id());
+            return;
+        }
+        removeUnlocked(pos.id());
+        posById.put(pos.id(), pos);
+        if (hasLocation(pos)) {
+            cells.computeIfAbsent(cellKey(pos), key -> new HashMap<>()).put(pos.id(), pos);
+            locatedCount++;
+        }
+    }
+
+    private void removeUnlocked(Long id) {
+        Pos removed = posById.remove(id);
+        if (removed == null || !hasLocation(removed)) {
+            return;
+        }
+        long cellKey = cellKey(removed);
+        Map<Long, Pos> cell = cells.get(cellKey);
+        cell.remove(id);
+        if (cell.isEmpty()) {
+            cells.remove(cellKey);
+        }
+        locatedCount--;
+    }
+
+    private void clearUnlocked() {
+        posById.clear();
+        cells.clear();
+        locatedCount = 0;
+    }
+
+    private static boolean hasLocation(Pos pos) {
+        return pos.latitude() != null && pos.longitude() != null;
+    }
+
+    private static long cellKey(Pos pos) {
+        return cellKey(cellIndex(pos.latitude()), wrapLongitudeCell(cellIndex(pos.longitude())));
+    }
+
+    private static long cellIndex(double degrees) {
+        return (long) Math.floor(degrees / CELL_SIZE_DEGREES);
+    }
+
+    /**
+     * Maps a longitude cell index to the equivalent index within [-180°, 180°), so that rings wrap around
+     * at the antimeridian.
+     */
+    private static long wrapLongitudeCell(long lonCell) {
+        return Math.floorMod(lonCell + LONGITUDE_CELLS / 2, LONGITUDE_CELLS) - LONGITUDE_CELLS / 2;
+    }
+
+    private static long cellKey(long latCell, long lonCell) {
+        return (latCell << 32) | (lonCell & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Calculates the great-circle distance between two locations using the haversine formula.
+     *
+     * @return the distance in meters
+     */
+    static double distance(double latitude1, double longitude1, double latitude2, double longitude2) {
+        double deltaLatitude = Math.toRadians(latitude2 - latitude1);
+        double deltaLongitude = Math.toRadians(longitude2 - longitude1);
+        double a = Math.pow(Math.sin(deltaLatitude / 2), 2)
+                + Math.cos(Math.toRadians(latitude1)) * Math.cos(Math.toRadians(latitude2))
+                * Math.pow(Math.sin(deltaLongitude / 2), 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.sqrt(a));
+    }
+}
@@ -0,0 +1,79 @@
+package de.seuhd.campuscoffee.domain.impl;
+
+import de.seuhd.campuscoffee.domain.model.Pos;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Remembers when POS have been removed from one of the in-memory structures that are updated after a write has been
+ * committed ({@link PosCache}, {@link PosSpatialIndex}, {@link PosSearchIndex}, {@link PosReadModel}).
+ * <p>
+ * An update that was committed before the deletion of the same POS may reach them after the deletion; since
+ * {@link PosVersions} has no stored version to compare it with, it would re-insert the deleted POS. Versions that
+ * were updated before the removal are therefore recognized as deleted. Removals are remembered for
+ * {@link #RETENTION}, which is far longer than the time between committing a write and applying it in memory.
+ * <p>
+ * Not thread-safe; the owning structure has to serialize all calls.
+ */
+final class PosTombstones {
+    static final Duration RETENTION = Duration.ofHours(1);
+
+    private final Map<Long, LocalDateTime> removedAt = new LinkedHashMap<>(); // ordered by removal time
+    private @Nullable LocalDateTime clearedAt;
+
+    /**
+     * Records the removal of a POS.
+     *
+     * @param id the ID of the removed POS
+     */
+    void add(@NonNull Long id) {
+        LocalDateTime now = now();
+        purge(now);
+        removedAt.remove(id); // keep the map ordered by removal time
+        removedAt.put(id, now);
+    }
+
+    /**
+     * Records the removal of all POS.
+     */
+    void addAll() {
+        removedAt.clear();
+        clearedAt = now();
+    }
+
+    /**
+     * Returns whether a POS has been removed after the given version of it was written.
+     *
+     * @param pos the POS to store
+     * @return true if the POS has an update timestamp that is not after its removal (or the removal of all POS)
+     */
+    boolean isRemoved(@NonNull Pos pos) {
+        if (pos.updatedAt() == null) {
+            return false;
+        }
+        LocalDateTime removed = removedAt.get(pos.id());
+        return (removed != null && !pos.updatedAt().isAfter(removed))
+                || (clearedAt != null && !pos.updatedAt().isAfter(clearedAt));
+    }
+
+    private void purge(LocalDateTime now) {
+        LocalDateTime threshold = now.minus(RETENTION);
+        Iterator<LocalDateTime> iterator = removedAt.values().iterator();
+        while (iterator.hasNext() && iterator.next().isBefore(threshold)) {
+            iterator.remove();
+        }
+    }
+
+    private static LocalDateTime now() {
+        // same clock and precision as the update timestamps of persisted POS
+        return LocalDateTime.now(ZoneId.of("UTC")).truncatedTo(ChronoUnit.MICROS);
+    }
+}
@@ -0,0 +1,29 @@
+package de.seuhd.campuscoffee.domain.impl;
+
+import de.seuhd.campuscoffee.domain.model.Pos;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Compares versions of a POS for the in-memory structures that are updated after a write has been committed
+ * ({@link PosCache}, {@link PosSpatialIndex}, {@link PosSearchIndex}, {@link PosReadModel}).
+ * Concurrent writes of the same POS may reach them in a different order than they were committed; the update
+ * timestamps keep them from replacing a POS with an older version. Versions of POS that have been removed in the
+ * meantime are recognized by {@link PosTombstones}.
+ */
+final class PosVersions {
+    private PosVersions() {
+    }
+
+    /**
+     * Returns whether a POS is older than the version that is already stored.
+     *
+     * @param pos     the POS to store
+     * @param current the stored version of the POS; null if none is stored
+     * @return true if both versions have an update timestamp and the POS to store was updated before the stored one
+     */
+    static boolean isOutdated(@NonNull Pos pos, @Nullable Pos current) {
+        return current != null && pos.updatedAt() != null && current.updatedAt() != null
+                && pos.updatedAt().isBefore(current.updatedAt());
+    }
+}
@@ -0,0 +1,25 @@
+package de.seuhd.campuscoffee.domain.model;
+
+/**
+ * Domain record for a rectangular area given by WGS 84 coordinates.
+ *
+ * @param minLatitude  the southern boundary
+ * @param minLongitude the western boundary
+ * @param maxLatitude  the northern boundary
+ * @param maxLongitude the eastern boundary
+ */
+public record BoundingBox(
+        double minLatitude,
+        double minLongitude,
+        double maxLatitude,
+        double maxLongitude
+) {
+    /**
+     * Returns the area of the bounding box in square degrees.
+     *
+     * @return the area in square degrees
+     */
+    public double area() {
+        return (maxLatitude - minLatitude) * (maxLongitude - minLongitude);
+    }
+}
@@ -0,0 +1,14 @@
+package de.seuhd.campuscoffee.domain.model;
+
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Domain record for a POS found by a nearby search.
+ *
+ * @param pos      the POS
+ * @param distance the great-circle distance between the search location and the POS in meters
+ */
+public record NearbyPos(
+        @NonNull Pos pos,
+        double distance
+) {}
@@ -0,0 +1,38 @@
+package de.seuhd.campuscoffee.domain.model;
+
+import lombok.Builder;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Domain record for an asynchronous import of POS from OpenStreetMap nodes.
+ * The node IDs are processed in order; {@code processedCount} is the checkpoint from which an interrupted job resumes.
+ *
+ * @param id             the unique identifier; null when the job has not been created yet
+ * @param createdAt      timestamp set on job creation
+ * @param updatedAt      timestamp set on job creation and every progress update
+ * @param status         the lifecycle state of the job
+ * @param boundingBox    the area to import POS from; null if the job was submitted with node IDs
+ * @param nodeIds        the OSM node IDs to import; for bounding box jobs empty until the nodes in the area are known
+ * @param processedCount the number of node IDs that have been processed
+ * @param importedCount  the number of nodes that have been imported as POS
+ * @param failedCount    the number of nodes that could not be imported
+ * @param message        the reason why the job failed; null unless the status is {@link OsmImportJobStatus#FAILED}
+ */
+@Builder(toBuilder = true)
+public record OsmImportJob(
+        @Nullable Long id,
+        @Nullable LocalDateTime createdAt,
+        @Nullable LocalDateTime updatedAt,
+        @NonNull OsmImportJobStatus status,
+        @Nullable BoundingBox boundingBox,
+        @NonNull List<Long> nodeIds,
+        int processedCount,
+        int importedCount,
+        int failedCount,
+        @Nullable String message
+) {
+}
@@ -0,0 +1,32 @@
+package de.seuhd.campuscoffee.domain.model;
+
+/**
+ * Lifecycle states of an {@link OsmImportJob}.
+ */
+public enum OsmImportJobStatus {
+    /**
+     * The job has been submitted and waits for a worker, or waits for the OSM API to become available again.
+     */
+    QUEUED,
+    /**
+     * A worker is importing the nodes of the job.
+     */
+    RUNNING,
+    /**
+     * All nodes of the job have been processed; individual nodes may still have failed.
+     */
+    COMPLETED,
+    /**
+     * The job was aborted by an unexpected error.
+     */
+    FAILED;
+
+    /**
+     * Returns whether the job still has to be (or is being) executed.
+     *
+     * @return true if the job is queued or running
+     */
+    public boolean isUnfinished() {
+        return this == QUEUED || this == RUNNING;
+    }
+}
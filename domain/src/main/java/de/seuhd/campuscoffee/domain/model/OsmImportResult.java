@@ -0,0 +1,21 @@
+package de.seuhd.campuscoffee.domain.model;
+
+import lombok.Builder;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Domain record that describes the outcome of importing a single OpenStreetMap node as part of a bulk import.
+ *
+ * @param nodeId  the OpenStreetMap node ID
+ * @param status  the outcome of the import
+ * @param pos     the imported POS; null if the import failed
+ * @param message a human-readable error message; null if the import succeeded
+ */
+@Builder
+public record OsmImportResult(
+        @NonNull Long nodeId,
+        @NonNull OsmImportStatus status,
+        @Nullable Pos pos,
+        @Nullable String message
+) {}
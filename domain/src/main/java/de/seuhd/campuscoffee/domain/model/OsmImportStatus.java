@@ -0,0 +1,12 @@
+package de.seuhd.campuscoffee.domain.model;
+
+/**
+ * Enum for the outcome of importing a single OpenStreetMap node.
+ */
+public enum OsmImportStatus {
+    IMPORTED,
+    NOT_FOUND, // the node does not exist or could not be fetched
+    MISSING_FIELDS, // the node lacks tags required to create a POS
+    DUPLICATE_NAME, // a POS with the same name already exists
+    FAILED // any other error
+}
@@ -11,6 +11,7 @@ import org.jspecify.annotations.Nullable;
  * OSM XML structure maps to this record as follows:
  * <ul>
  *   <li>{@code nodeId} - OSM node ID attribute</li>
+ *   <li>{@code version} - version attribute on node element</li>
  *   <li>{@code latitude} - lat attribute on node element</li>
  *   <li>{@code longitude} - lon attribute on node element</li>
  *   <li>{@code name} - tag with k="name"</li>
@@ -26,6 +27,7 @@ import org.jspecify.annotations.Nullable;
  * </ul>
  *
  * @param nodeId The OpenStreetMap node ID
+ * @param version The version of the node, incremented by OpenStreetMap on every change
  * @param latitude The latitude coordinate of the node
  * @param longitude The longitude coordinate of the node
  * @param name The name of the establishment
@@ -42,6 +44,7 @@ import org.jspecify.annotations.Nullable;
 @Builder
 public record OsmNode(
         @NonNull Long nodeId,
+        @Nullable Long version,
         @NonNull Double latitude,
         @NonNull Double longitude,
         @Nullable String name,
@@ -37,7 +37,9 @@ public record Pos(
         @NonNull String street,
         @NonNull String houseNumber,
         @NonNull Integer postalCode,
-        @NonNull String city
+        @NonNull String city,
+        @Nullable Double latitude, // WGS 84; null if the location of the POS is unknown
+        @Nullable Double longitude // WGS 84; null if the location of the POS is unknown
 ) implements Serializable { // serializable to allow cloning (see TestFixtures class).
     @Serial
     private static final long serialVersionUID = 1L;
@@ -0,0 +1,21 @@
+package de.seuhd.campuscoffee.domain.model;
+
+import lombok.Builder;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Domain record that describes the outcome of creating or updating a single POS as part of a batch.
+ *
+ * @param index   the position of the POS in the batch
+ * @param status  the outcome of the operation
+ * @param pos     the persisted POS; null if the operation failed
+ * @param message a human-readable error message; null if the operation succeeded
+ */
+@Builder(toBuilder = true)
+public record PosBatchResult(
+        int index,
+        @NonNull PosBatchStatus status,
+        @Nullable Pos pos,
+        @Nullable String message
+) {}
@@ -0,0 +1,13 @@
+package de.seuhd.campuscoffee.domain.model;
+
+/**
+ * Enum for the outcome of creating or updating a single POS as part of a batch.
+ */
+public enum PosBatchStatus {
+    CREATED,
+    UPDATED,
+    NOT_FOUND, // the POS to update does not exist
+    DUPLICATE_NAME, // a POS with the same name already exists
+    INVALID, // the POS violates a validation rule
+    FAILED // any other error
+}
@@ -0,0 +1,18 @@
+package de.seuhd.campuscoffee.domain.model;
+
+import org.jspecify.annotations.Nullable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Version of the POS catalog as a whole, used to detect whether any POS has changed (e.g., for HTTP caching).
+ * Every create or update advances the latest update timestamp; the count additionally reflects deletions.
+ *
+ * @param count         the number of POS
+ * @param lastUpdatedAt the latest update timestamp of all POS; null if there are no POS
+ */
+public record PosCatalogVersion(
+        long count,
+        @Nullable LocalDateTime lastUpdatedAt
+) {
+}
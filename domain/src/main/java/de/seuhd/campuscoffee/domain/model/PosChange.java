@@ -0,0 +1,25 @@
+package de.seuhd.campuscoffee.domain.model;
+
+import lombok.Builder;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Domain record for a single change of the POS catalog published in the change feed.
+ *
+ * @param sequence   the position of the change in the feed; increases by one with every change
+ * @param type       the type of the change
+ * @param posId      the ID of the created, updated, or deleted POS; null if all POS have been cleared
+ * @param pos        the POS after the change; null if the POS has been deleted or cleared
+ * @param occurredAt the time (UTC) at which the change has been published
+ */
+@Builder
+public record PosChange(
+        long sequence,
+        @NonNull PosChangeType type,
+        @Nullable Long posId,
+        @Nullable Pos pos,
+        @NonNull LocalDateTime occurredAt
+) {}
@@ -0,0 +1,19 @@
+package de.seuhd.campuscoffee.domain.model;
+
+import org.jspecify.annotations.NonNull;
+
+import java.util.List;
+
+/**
+ * Domain record for the changes of the POS catalog after a given position of the change feed.
+ *
+ * @param changes      the changes ordered by sequence; may be empty
+ * @param lastSequence the sequence to resume from to receive the next changes
+ * @param reset        whether the requested position is no longer available in the feed (e.g., because it was handed out before a restart);
+ *                     consumers must reload all POS and resume from {@code lastSequence}
+ */
+public record PosChangePage(
+        @NonNull List<PosChange> changes,
+        long lastSequence,
+        boolean reset
+) {}
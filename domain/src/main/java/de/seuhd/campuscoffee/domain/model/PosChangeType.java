@@ -0,0 +1,11 @@
+package de.seuhd.campuscoffee.domain.model;
+
+/**
+ * Enum for the type of change of the POS catalog published in the change feed.
+ */
+public enum PosChangeType {
+    CREATED,
+    UPDATED,
+    DELETED, // the change only carries the ID of the deleted POS
+    CLEARED // all POS have been deleted; the change carries no POS
+}
@@ -0,0 +1,23 @@
+package de.seuhd.campuscoffee.domain.model;
+
+import org.jspecify.annotations.NonNull;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Domain record for the changes of the POS catalog since a watermark, used for incremental synchronization.
+ * Consumers apply the updated POS first and then remove the deleted ones.
+ *
+ * @param updated    the POS created or updated since the watermark, ordered by update timestamp
+ * @param deletedIds the IDs of the POS deleted since the watermark
+ * @param watermark  the watermark (UTC) to pass with the next synchronization
+ * @param fullSync   whether {@code updated} contains all POS and {@code deletedIds} is empty, because the deletions
+ *                   since the requested watermark are no longer known; consumers must drop all other POS
+ */
+public record PosDelta(
+        @NonNull List<Pos> updated,
+        @NonNull List<Long> deletedIds,
+        @NonNull LocalDateTime watermark,
+        boolean fullSync
+) {}
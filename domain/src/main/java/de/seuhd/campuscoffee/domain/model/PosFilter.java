@@ -0,0 +1,35 @@
+package de.seuhd.campuscoffee.domain.model;
+
+import lombok.Builder;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Domain record for the criteria that a list of POS is filtered by.
+ * All criteria are optional; a POS matches if it matches all criteria that are set.
+ *
+ * @param campus     the campus of the POS; null to match any campus
+ * @param type       the type of the POS; null to match any type
+ * @param city       the city of the POS (exact match); null to match any city
+ * @param postalCode the postal code of the POS; null to match any postal code
+ */
+@Builder
+public record PosFilter(
+        @Nullable CampusType campus,
+        @Nullable PosType type,
+        @Nullable String city,
+        @Nullable Integer postalCode
+) {
+    /**
+     * A filter that matches all POS.
+     */
+    public static final PosFilter NONE = new PosFilter(null, null, null, null);
+
+    /**
+     * Checks whether no criterion is set, i.e., whether the filter matches all POS.
+     *
+     * @return true if the filter matches all POS
+     */
+    public boolean isEmpty() {
+        return campus == null && type == null && city == null && postalCode == null;
+    }
+}
@@ -0,0 +1,12 @@
+package de.seuhd.campuscoffee.domain.model;
+
+/**
+ * Domain record that summarizes an import of POS from a stream (see {@code PosService#importAll}).
+ *
+ * @param created the number of POS that did not exist before and were created
+ * @param updated the number of existing POS (identified by name) that were updated
+ */
+public record PosImportSummary(
+        int created,
+        int updated
+) {}
@@ -0,0 +1,14 @@
+package de.seuhd.campuscoffee.domain.model;
+
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Domain record that describes a POS written by an upsert identified by name (see {@code PosDataService#upsertAllByName}).
+ *
+ * @param pos     the persisted POS
+ * @param created true if the POS did not exist before and was created; false if an existing POS was updated
+ */
+public record PosUpsertResult(
+        @NonNull Pos pos,
+        boolean created
+) {}
@@ -0,0 +1,21 @@
+package de.seuhd.campuscoffee.domain.ports;
+
+import de.seuhd.campuscoffee.domain.model.CampusType;
+
+import java.util.Optional;
+
+/**
+ * Service interface for determining the campus that a location belongs to.
+ * This is a port in the hexagonal architecture pattern; the domain layer implements it based on campus polygons
+ * loaded from a GeoJSON file (see {@code GeoJsonCampusResolver}).
+ */
+public interface CampusResolver {
+    /**
+     * Determines the campus that contains the given location.
+     *
+     * @param latitude  the latitude of the location (WGS 84)
+     * @param longitude the longitude of the location (WGS 84)
+     * @return the campus containing the location; empty if the location is not on any known campus
+     */
+    Optional<CampusType> resolve(double latitude, double longitude);
+}
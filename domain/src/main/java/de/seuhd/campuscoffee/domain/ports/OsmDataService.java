@@ -1,9 +1,15 @@
 package de.seuhd.campuscoffee.domain.ports;
 
+import de.seuhd.campuscoffee.domain.model.BoundingBox;
 import de.seuhd.campuscoffee.domain.model.OsmNode;
 import de.seuhd.campuscoffee.domain.exceptions.OsmNodeNotFoundException;
+import de.seuhd.campuscoffee.domain.exceptions.OsmServiceUnavailableException;
 import org.jspecify.annotations.NonNull;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Port for importing Point of Sale data from OpenStreetMap.
  * This interface defines the contract for fetching OSM node data.
@@ -16,6 +22,28 @@ public interface OsmDataService {
      * @param nodeId the OpenStreetMap node ID to fetch
      * @return the OSM node data with tags
      * @throws OsmNodeNotFoundException if the node doesn't exist or can't be fetched
+     * @throws OsmServiceUnavailableException if the OSM API is not available and the node is not cached
+     */
+    @NonNull OsmNode fetchNode(@NonNull Long nodeId) throws OsmNodeNotFoundException, OsmServiceUnavailableException;
+
+    /**
+     * Fetches multiple OpenStreetMap nodes with as few requests as possible.
+     * Implementations should use the multi-fetch API of OpenStreetMap and split large requests into chunks.
+     *
+     * @param nodeIds the OpenStreetMap node IDs to fetch; must not be null
+     * @return the fetched nodes by node ID; nodes that do not exist or cannot be fetched are not contained
+     * @throws OsmServiceUnavailableException if the OSM API is not available and not all requested nodes are cached
+     */
+    @NonNull Map<Long, OsmNode> fetchNodes(@NonNull Collection<Long> nodeIds) throws OsmServiceUnavailableException;
+
+    /**
+     * Fetches all OpenStreetMap nodes in an area.
+     * Implementations should use the map API of OpenStreetMap, which limits the size of the area.
+     *
+     * @param boundingBox the area to fetch nodes from; must not be null
+     * @return the nodes in the area, including nodes without tags
+     * @throws OsmServiceUnavailableException if the OSM API is not available
+     * @throws RuntimeException if the nodes cannot be fetched for other reasons
      */
-    @NonNull OsmNode fetchNode(@NonNull Long nodeId) throws OsmNodeNotFoundException;
+    @NonNull List<OsmNode> fetchNodes(@NonNull BoundingBox boundingBox) throws OsmServiceUnavailableException;
 }
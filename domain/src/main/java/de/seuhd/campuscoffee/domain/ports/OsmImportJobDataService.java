@@ -0,0 +1,46 @@
+package de.seuhd.campuscoffee.domain.ports;
+
+import de.seuhd.campuscoffee.domain.exceptions.OsmImportJobNotFoundException;
+import de.seuhd.campuscoffee.domain.model.OsmImportJob;
+import org.jspecify.annotations.NonNull;
+
+import java.util.List;
+
+/**
+ * Port for persisting OSM import jobs and their progress.
+ * This is a port in the hexagonal architecture pattern, implemented by the data layer.
+ */
+public interface OsmImportJobDataService {
+    /**
+     * Creates a new import job.
+     *
+     * @param job the job to create; its ID must be null
+     * @return the created job with ID and timestamps; never null
+     */
+    @NonNull OsmImportJob create(@NonNull OsmImportJob job);
+
+    /**
+     * Updates the status, node IDs and progress of an existing import job.
+     *
+     * @param job the job to update; its ID must be set
+     * @return the updated job; never null
+     * @throws OsmImportJobNotFoundException if no job exists with the ID
+     */
+    @NonNull OsmImportJob update(@NonNull OsmImportJob job) throws OsmImportJobNotFoundException;
+
+    /**
+     * Retrieves an import job by its ID.
+     *
+     * @param id the ID of the job
+     * @return the job; never null
+     * @throws OsmImportJobNotFoundException if no job exists with the ID
+     */
+    @NonNull OsmImportJob getById(@NonNull Long id) throws OsmImportJobNotFoundException;
+
+    /**
+     * Retrieves all jobs that are queued or running, ordered by ID.
+     *
+     * @return the unfinished jobs; never null, but may be empty
+     */
+    @NonNull List<OsmImportJob> getUnfinished();
+}
@@ -0,0 +1,53 @@
+package de.seuhd.campuscoffee.domain.ports;
+
+import de.seuhd.campuscoffee.domain.exceptions.OsmImportJobNotFoundException;
+import de.seuhd.campuscoffee.domain.model.BoundingBox;
+import de.seuhd.campuscoffee.domain.model.OsmImportJob;
+import org.jspecify.annotations.NonNull;
+
+import java.util.List;
+
+/**
+ * Service interface for asynchronous imports of POS from OpenStreetMap.
+ * Submitted jobs are executed in the background by a bounded pool of workers; their progress is checkpointed
+ * in the data store, so that jobs that were interrupted (e.g., by a restart) are resumed.
+ */
+public interface OsmImportJobService {
+    /**
+     * The maximum number of OpenStreetMap nodes that can be imported with a single job.
+     */
+    int MAX_JOB_SIZE = 100_000;
+
+    /**
+     * The maximum area of a bounding box in square degrees, as accepted by the OpenStreetMap map API.
+     */
+    double MAX_BOUNDING_BOX_AREA = 0.25;
+
+    /**
+     * Submits a job that imports the given OpenStreetMap nodes as POS.
+     *
+     * @param nodeIds the OpenStreetMap node IDs; duplicates are ignored
+     * @return the queued job; never null
+     * @throws IllegalArgumentException if no or more than {@link #MAX_JOB_SIZE} node IDs are given
+     */
+    @NonNull OsmImportJob submit(@NonNull List<Long> nodeIds) throws IllegalArgumentException;
+
+    /**
+     * Submits a job that imports all OpenStreetMap nodes in the given area that represent a POS
+     * (i.e., nodes with a name and a supported amenity).
+     *
+     * @param boundingBox the area to import POS from
+     * @return the queued job; never null
+     * @throws IllegalArgumentException if the bounding box is invalid or larger than {@link #MAX_BOUNDING_BOX_AREA}
+     */
+    @NonNull OsmImportJob submit(@NonNull BoundingBox boundingBox) throws IllegalArgumentException;
+
+    /**
+     * Retrieves an import job with its current progress.
+     *
+     * @param id the ID of the job
+     * @return the job; never null
+     * @throws OsmImportJobNotFoundException if no job exists with the given ID
+     */
+    @NonNull OsmImportJob getById(@NonNull Long id) throws OsmImportJobNotFoundException;
+}
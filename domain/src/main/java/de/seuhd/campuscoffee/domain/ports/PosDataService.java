@@ -1,10 +1,17 @@
 package de.seuhd.campuscoffee.domain.ports;
 
+import de.seuhd.campuscoffee.domain.exceptions.DuplicatePosNameException;
 import de.seuhd.campuscoffee.domain.model.Pos;
+import de.seuhd.campuscoffee.domain.model.PosCatalogVersion;
+import de.seuhd.campuscoffee.domain.model.PosFilter;
+import de.seuhd.campuscoffee.domain.model.PosUpsertResult;
 import de.seuhd.campuscoffee.domain.exceptions.PosNotFoundException;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Port interface for POS data operations.
@@ -16,6 +23,7 @@ import java.util.List;
 public interface PosDataService {
     /**
      * Clears all POS data from the data store.
+     * A tombstone is recorded for every deleted POS (see {@link #getDeletedSince(LocalDateTime)}).
      * This is typically used for testing or administrative purposes.
      * Warning: This operation is destructive and cannot be undone.
      */
@@ -28,6 +36,53 @@ public interface PosDataService {
      */
     @NonNull List<Pos> getAll();
 
+    /**
+     * Retrieves the current version of the POS catalog with a single aggregate query.
+     *
+     * @return the number of POS entities and their latest update timestamp; never null
+     */
+    @NonNull PosCatalogVersion getCatalogVersion();
+
+    /**
+     * Retrieves all POS entities that match the given filter, ordered by ID.
+     * Implementations should evaluate the filter in the data store instead of loading all entities.
+     *
+     * @param filter the filter criteria; must not be null
+     * @return the matching POS entities ordered by ID; never null, but may be empty
+     */
+    @NonNull List<Pos> getAll(@NonNull PosFilter filter);
+
+    /**
+     * Retrieves a page of POS entities that match the given filter, ordered by ID using keyset pagination.
+     * Only entities with an ID greater than {@code after} are returned, so the cost of a page
+     * does not depend on its position in the result set.
+     *
+     * @param filter the filter criteria; must not be null
+     * @param after the ID of the last POS of the previous page; null to start with the first page
+     * @param limit the maximum number of POS entities to return; must be positive
+     * @return the POS entities of the requested page ordered by ID; never null, but may be empty
+     */
+    @NonNull List<Pos> getPage(@NonNull PosFilter filter, @Nullable Long after, int limit);
+
+    /**
+     * Searches POS entities whose name or description is similar to the given query.
+     * Similarity is based on trigrams, so the query may contain typos and may be a prefix of a word.
+     *
+     * @param query the search query; must not be blank
+     * @param limit the maximum number of POS entities to return; must be positive
+     * @return the matching POS entities ordered by descending similarity; never null, but may be empty
+     */
+    @NonNull List<Pos> search(@NonNull String query, int limit);
+
+    /**
+     * Passes all POS entities ordered by ID to the given consumer.
+     * Implementations read the entities incrementally (e.g., from a database cursor) instead of
+     * materializing the whole data set, so memory usage stays constant regardless of the number of POS.
+     *
+     * @param consumer the consumer that is called once per POS entity; must not be null
+     */
+    void streamAll(@NonNull Consumer<Pos> consumer);
+
     /**
      * Retrieves a single POS entity by its unique identifier.
      *
@@ -47,4 +102,59 @@ public interface PosDataService {
      * @throws PosNotFoundException if attempting to update a POS that does not exist
      */
     @NonNull Pos upsert(@NonNull Pos pos) throws PosNotFoundException;
+
+    /**
+     * Deletes a single POS entity by its unique identifier and records a tombstone for it.
+     *
+     * @param id the unique identifier of the POS to delete; must not be null
+     * @throws PosNotFoundException if no POS exists with the given ID
+     */
+    void delete(@NonNull Long id) throws PosNotFoundException;
+
+    /**
+     * Retrieves the POS entities that have been created or updated after the given time.
+     *
+     * @param since the exclusive lower bound for the update timestamp (UTC); must not be null
+     * @return the matching POS entities ordered by update timestamp; never null, but may be empty
+     */
+    @NonNull List<Pos> getUpdatedSince(@NonNull LocalDateTime since);
+
+    /**
+     * Retrieves the IDs of the POS entities that have been deleted after the given time, based on their tombstones.
+     * Tombstones are only available until they are purged (see {@link #purgeTombstones(LocalDateTime)}).
+     *
+     * @param since the exclusive lower bound for the deletion timestamp (UTC); must not be null
+     * @return the IDs of the deleted POS entities ordered by deletion timestamp; never null, but may be empty
+     */
+    @NonNull List<Long> getDeletedSince(@NonNull LocalDateTime since);
+
+    /**
+     * Removes the tombstones of POS entities that have been deleted before the given time.
+     *
+     * @param before the exclusive upper bound for the deletion timestamp (UTC); must not be null
+     */
+    void purgeTombstones(@NonNull LocalDateTime before);
+
+    /**
+     * Creates or updates multiple POS entities in a single transaction.
+     * Each POS is created if it has no ID and updated otherwise. Implementations should send the
+     * resulting statements to the data store in batches instead of one round trip per POS.
+     * If any POS cannot be persisted, none of them are.
+     *
+     * @param posList the POS entities to create or update; must not be null
+     * @return the persisted POS entities with updated timestamps and IDs, in the order of the given list; never null
+     * @throws PosNotFoundException if attempting to update a POS that does not exist
+     * @throws DuplicatePosNameException if a POS name is not unique
+     */
+    @NonNull List<Pos> upsertAll(@NonNull List<Pos> posList) throws PosNotFoundException, DuplicatePosNameException;
+
+    /**
+     * Creates or updates multiple POS entities identified by their name in a single transaction.
+     * IDs of the given POS are ignored: a POS whose name already exists is updated, all other POS are created.
+     * If a name occurs more than once, the last occurrence wins.
+     *
+     * @param posList the POS entities to create or update; must not be null
+     * @return the persisted POS entities with whether they were created by this call, in no particular order; never null
+     */
+    @NonNull List<PosUpsertResult> upsertAllByName(@NonNull List<Pos> posList);
 }
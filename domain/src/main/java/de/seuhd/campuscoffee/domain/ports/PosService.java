@@ -4,11 +4,26 @@ package de.seuhd.campuscoffee.domain.ports;
 import de.seuhd.campuscoffee.domain.exceptions.DuplicatePosNameException;
 import de.seuhd.campuscoffee.domain.exceptions.OsmNodeMissingFieldsException;
 import de.seuhd.campuscoffee.domain.exceptions.OsmNodeNotFoundException;
+import de.seuhd.campuscoffee.domain.exceptions.OsmServiceUnavailableException;
+import de.seuhd.campuscoffee.domain.exceptions.PosImportFailedException;
 import de.seuhd.campuscoffee.domain.exceptions.PosNotFoundException;
+import de.seuhd.campuscoffee.domain.model.NearbyPos;
+import de.seuhd.campuscoffee.domain.model.OsmImportResult;
 import de.seuhd.campuscoffee.domain.model.Pos;
+import de.seuhd.campuscoffee.domain.model.PosBatchResult;
+import de.seuhd.campuscoffee.domain.model.PosCatalogVersion;
+import de.seuhd.campuscoffee.domain.model.PosChangePage;
+import de.seuhd.campuscoffee.domain.model.PosDelta;
+import de.seuhd.campuscoffee.domain.model.PosFilter;
+import de.seuhd.campuscoffee.domain.model.PosImportSummary;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Service interface for POS (Point of Sale) operations.
@@ -18,6 +33,46 @@ import java.util.List;
  * data operations through the {@link PosDataService} port.
  */
 public interface PosService {
+    /**
+     * The maximum number of POS that can be requested with a single call to {@link #getPage(PosFilter, Long, int)}.
+     */
+    int MAX_PAGE_SIZE = 1000;
+
+    /**
+     * The maximum number of OpenStreetMap nodes that can be imported with a single call to {@link #importFromOsmNodes(List)}.
+     */
+    int MAX_OSM_IMPORT_SIZE = 1000;
+
+    /**
+     * The maximum number of POS that can be created or updated with a single call to {@link #upsertBatch(List)}.
+     */
+    int MAX_BATCH_SIZE = 1000;
+
+    /**
+     * The maximum number of POS that can be requested with a single call to {@link #getNearby(double, double, double, int)}.
+     */
+    int MAX_NEARBY_LIMIT = 100;
+
+    /**
+     * The maximum search radius in meters for {@link #getNearby(double, double, double, int)}.
+     */
+    double MAX_NEARBY_RADIUS = 50_000;
+
+    /**
+     * The maximum number of POS that can be requested with a single call to {@link #search(String, int)}.
+     */
+    int MAX_SEARCH_LIMIT = 50;
+
+    /**
+     * The maximum number of changes that can be requested with a single call to {@link #getChanges(Long, int, Duration)}.
+     */
+    int MAX_CHANGES_LIMIT = 1000;
+
+    /**
+     * The maximum time a call to {@link #getChanges(Long, int, Duration)} waits for the next change.
+     */
+    Duration MAX_CHANGES_TIMEOUT = Duration.ofSeconds(60);
+
     /**
      * Clears all POS data.
      * This operation removes all Points of Sale from the system.
@@ -33,6 +88,95 @@ public interface PosService {
      */
     @NonNull List<Pos> getAll();
 
+    /**
+     * Retrieves the current version of the POS catalog.
+     * The version changes whenever a POS is created, updated or deleted, so it can be used to validate
+     * cached lists of POS without retrieving them.
+     *
+     * @return the current catalog version; never null
+     */
+    @NonNull PosCatalogVersion getCatalogVersion();
+
+    /**
+     * Retrieves all Points of Sale that match the given filter, ordered by ID.
+     *
+     * @param filter the filter criteria; must not be null
+     * @return the matching POS entities; never null, but may be empty
+     */
+    @NonNull List<Pos> getAll(@NonNull PosFilter filter);
+
+    /**
+     * Retrieves the changes of the POS catalog since a watermark for incremental synchronization.
+     * The first synchronization can pass any watermark older than the retention period of deletions,
+     * which returns all POS.
+     *
+     * @param updatedSince the watermark returned by the previous synchronization (UTC); must not be null
+     * @return the POS created or updated and the IDs of the POS deleted since the watermark, and the next watermark;
+     *         never null
+     */
+    @NonNull PosDelta getDelta(@NonNull LocalDateTime updatedSince);
+
+    /**
+     * Retrieves a page of Points of Sale that match the given filter, ordered by ID using keyset pagination.
+     * The next page can be requested by passing the ID of the last POS of the current page as {@code after}.
+     *
+     * @param filter the filter criteria; must not be null
+     * @param after the ID of the last POS of the previous page; null to start with the first page
+     * @param limit the maximum number of POS to return; must be between 1 and {@link #MAX_PAGE_SIZE}
+     * @return the POS of the requested page ordered by ID; never null, but may be empty
+     * @throws IllegalArgumentException if the limit is out of range
+     */
+    @NonNull List<Pos> getPage(@NonNull PosFilter filter, @Nullable Long after, int limit) throws IllegalArgumentException;
+
+    /**
+     * Passes all Points of Sale ordered by ID to the given consumer without loading them into memory at once.
+     * This is intended for large result sets that are written to the client incrementally.
+     *
+     * @param consumer the consumer that is called once per POS; must not be null
+     */
+    void streamAll(@NonNull Consumer<Pos> consumer);
+
+    /**
+     * Retrieves the Points of Sale closest to a location.
+     * POS without coordinates are never returned.
+     *
+     * @param latitude  the latitude of the location; must be between -90 and 90
+     * @param longitude the longitude of the location; must be between -180 and 180
+     * @param radius    the maximum distance of the returned POS in meters; must be positive and at most {@link #MAX_NEARBY_RADIUS}
+     * @param limit     the maximum number of POS to return; must be between 1 and {@link #MAX_NEARBY_LIMIT}
+     * @return the POS within the radius ordered by ascending distance, with their distance; never null, but may be empty
+     * @throws IllegalArgumentException if one of the parameters is out of range
+     */
+    @NonNull List<NearbyPos> getNearby(double latitude, double longitude, double radius, int limit)
+            throws IllegalArgumentException;
+
+    /**
+     * Searches Points of Sale by name and description.
+     * The search is tolerant to typos and treats the query as a prefix, so it can be used for autocompletion.
+     *
+     * @param query the search query; must not be blank
+     * @param limit the maximum number of POS to return; must be between 1 and {@link #MAX_SEARCH_LIMIT}
+     * @return the matching POS ordered by descending relevance; never null, but may be empty
+     * @throws IllegalArgumentException if the query is blank or the limit is out of range
+     */
+    @NonNull List<Pos> search(@NonNull String query, int limit) throws IllegalArgumentException;
+
+    /**
+     * Retrieves the changes of the POS catalog (creations, updates, and deletions) after a position of the change feed.
+     * Consumers keep their copy of the catalog up to date by passing the sequence returned with the previous changes.
+     * If there are no changes yet, the call waits for the next change up to the given timeout (long polling).
+     * If the position is no longer available, the returned page is marked as reset and the consumer must reload
+     * all POS (e.g., with {@link #getAll()}) before resuming from the returned sequence.
+     *
+     * @param after   the sequence of the last change seen by the consumer; null to start with the next change
+     * @param limit   the maximum number of changes to return; must be between 1 and {@link #MAX_CHANGES_LIMIT}
+     * @param timeout the maximum time to wait for a change; must be between zero and {@link #MAX_CHANGES_TIMEOUT}
+     * @return the changes ordered by sequence and the sequence to resume from; never null
+     * @throws IllegalArgumentException if one of the parameters is out of range
+     */
+    @NonNull PosChangePage getChanges(@Nullable Long after, int limit, @NonNull Duration timeout)
+            throws IllegalArgumentException;
+
     /**
      * Retrieves a specific Point of Sale by its unique identifier.
      *
@@ -54,6 +198,7 @@ public interface PosService {
      * <ul>
      *   <li>POS names must be unique (enforced by database constraint)</li>
      *   <li>All required fields must be present and valid</li>
+     *   <li>Coordinates must be within the WGS 84 ranges and either both be set or both be null</li>
      *   <li>Timestamps (createdAt, updatedAt) are managed by the {@link PosDataService}.</li>
      * </ul>
      *
@@ -61,8 +206,56 @@ public interface PosService {
      * @return the persisted POS entity with populated ID and timestamps; never null
      * @throws PosNotFoundException if attempting to update a POS that does not exist
      * @throws DuplicatePosNameException if a POS with the same name already exists
+     * @throws IllegalArgumentException if the coordinates of the POS are invalid
      */
-    @NonNull Pos upsert(@NonNull Pos pos) throws PosNotFoundException, DuplicatePosNameException;
+    @NonNull Pos upsert(@NonNull Pos pos) throws PosNotFoundException, DuplicatePosNameException, IllegalArgumentException;
+
+    /**
+     * Deletes a Point of Sale.
+     *
+     * @param id the unique identifier of the POS to delete; must not be null
+     * @throws PosNotFoundException if no POS exists with the given ID
+     */
+    void delete(@NonNull Long id) throws PosNotFoundException;
+
+    /**
+     * Creates or updates multiple Points of Sale at once.
+     * This has the same semantics as calling {@link #upsert(Pos)} for each POS, but all POS are persisted in a
+     * single transaction with batched statements. If any POS cannot be persisted, none of them are.
+     *
+     * @param posList the POS entities to create or update; must not be null
+     * @return the persisted POS entities with populated IDs and timestamps, in the order of the given list; never null
+     * @throws PosNotFoundException if attempting to update a POS that does not exist
+     * @throws DuplicatePosNameException if a POS name is not unique
+     * @throws IllegalArgumentException if the coordinates of a POS are invalid
+     */
+    @NonNull List<Pos> upsertAll(@NonNull List<Pos> posList)
+            throws PosNotFoundException, DuplicatePosNameException, IllegalArgumentException;
+
+    /**
+     * Creates or updates multiple Points of Sale and reports the outcome per POS.
+     * The POS are persisted in chunks with one transaction each (see {@link #upsertAll(List)}).
+     * In contrast to {@link #upsertAll(List)}, a POS that cannot be persisted does not prevent the other POS
+     * from being persisted.
+     *
+     * @param posList the POS entities to create or update; must not be null
+     * @return one result per POS in the order of the given list; never null
+     * @throws IllegalArgumentException if more than {@link #MAX_BATCH_SIZE} POS are passed
+     */
+    @NonNull List<PosBatchResult> upsertBatch(@NonNull List<Pos> posList) throws IllegalArgumentException;
+
+    /**
+     * Imports Points of Sale from a stream, e.g., from the export of another environment (see {@link #streamAll}).
+     * POS are identified by their name, since IDs differ between environments: existing POS are updated, all
+     * other POS are created. The POS are read and persisted in chunks with one transaction each, so memory usage
+     * stays constant regardless of the number of POS. Chunks persisted before an error remain persisted and are
+     * reported by the exception; since the import is idempotent, it can simply be repeated.
+     *
+     * @param posIterator the POS to import; IDs and timestamps are ignored; must not be null
+     * @return the number of created and updated POS; never null
+     * @throws PosImportFailedException if the iterator fails to provide a valid POS
+     */
+    @NonNull PosImportSummary importAll(@NonNull Iterator<Pos> posIterator) throws PosImportFailedException;
 
     /**
      * Imports a Point of Sale from an OpenStreetMap node.
@@ -82,6 +275,20 @@ public interface PosService {
      * @throws OsmNodeNotFoundException if the OSM node with the given ID doesn't exist or cannot be fetched
      * @throws OsmNodeMissingFieldsException if the OSM node lacks required fields for creating a valid POS
      * @throws DuplicatePosNameException if a POS with the same name already exists
+     * @throws OsmServiceUnavailableException if the OpenStreetMap API is not available
+     */
+    @NonNull Pos importFromOsmNode(@NonNull Long nodeId) throws OsmNodeNotFoundException, OsmNodeMissingFieldsException, DuplicatePosNameException, OsmServiceUnavailableException;
+
+    /**
+     * Imports Points of Sale from multiple OpenStreetMap nodes.
+     * The nodes are fetched concurrently in batches; the resulting POS are persisted after all fetches have completed.
+     * In contrast to {@link #importFromOsmNode(Long)}, failures do not abort the import but are reported per node,
+     * unless the OpenStreetMap API is not available at all.
+     *
+     * @param nodeIds the OpenStreetMap node IDs to import; must not be null; duplicates are imported once
+     * @return one result per distinct node ID in the order of the request; never null
+     * @throws IllegalArgumentException if more than {@link #MAX_OSM_IMPORT_SIZE} node IDs are passed
+     * @throws OsmServiceUnavailableException if the OpenStreetMap API is not available; no POS is imported in that case
      */
-    @NonNull Pos importFromOsmNode(@NonNull Long nodeId) throws OsmNodeNotFoundException, OsmNodeMissingFieldsException, DuplicatePosNameException;
+    @NonNull List<OsmImportResult> importFromOsmNodes(@NonNull List<Long> nodeIds) throws IllegalArgumentException, OsmServiceUnavailableException;
 }
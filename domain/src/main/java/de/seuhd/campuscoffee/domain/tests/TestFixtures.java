@@ -6,7 +6,6 @@ import org.apache.commons.lang3.SerializationUtils;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Test fixtures for POS entities.
@@ -20,18 +19,21 @@ public class TestFixtures {
                     .name("Schmelzpunkt").description("Great waffles")
                     .type(PosType.CAFE).campus(CampusType.ALTSTADT)
                     .street("Hauptstraße").houseNumber("90").postalCode(69117).city("Heidelberg")
+                    .latitude(49.4109).longitude(8.7046)
                     .build(),
             Pos.builder()
                     .id(1L).createdAt(DATE_TIME).updatedAt(DATE_TIME)
                     .name("Bäcker Görtz ").description("Walking distance to lecture hall")
                     .type(PosType.BAKERY).campus(CampusType.INF)
                     .street("Berliner Str.").houseNumber("43").postalCode(69120).city("Heidelberg")
+                    .latitude(49.4190).longitude(8.6756)
                     .build(),
             Pos.builder()
                     .id(1L).createdAt(DATE_TIME).updatedAt(DATE_TIME)
                     .name("Café Botanik").description("Outdoor seating available")
                     .type(PosType.CAFETERIA).campus(CampusType.INF)
                     .street("Im Neuenheimer Feld").houseNumber("304").postalCode(69120).city("Heidelberg")
+                    .latitude(49.4166).longitude(8.6701)
                     .build(),
             Pos.builder()
                     .id(1L).createdAt(DATE_TIME).updatedAt(DATE_TIME)
@@ -54,8 +56,6 @@ public class TestFixtures {
     }
 
     public static List<Pos> createPosFixtures(PosService posService) {
-        return getPosFixturesForInsertion().stream()
-                .map(posService::upsert)
-                .collect(Collectors.toList());
+        return posService.upsertAll(getPosFixturesForInsertion());
     }
 }
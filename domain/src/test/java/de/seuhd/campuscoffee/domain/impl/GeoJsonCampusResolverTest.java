@@ -0,0 +1,68 @@
+package de.seuhd.campuscoffee.domain.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.seuhd.campuscoffee.domain.config.CampusProperties;
+import de.seuhd.campuscoffee.domain.impl.GeoJsonCampusResolver.CampusPolygon;
+import de.seuhd.campuscoffee.domain.model.CampusType;
+import de.seuhd.campuscoffee.domain.model.Pos;
+import de.seuhd.campuscoffee.domain.tests.TestFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the polygon-based campus resolver.
+ */
+public class GeoJsonCampusResolverTest {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Test
+    void resolveFixtureLocations() {
+        GeoJsonCampusResolver resolver = new GeoJsonCampusResolver(
+                new CampusProperties("classpath:campuses.geojson", 0.0005, CampusType.ALTSTADT),
+                new DefaultResourceLoader(), OBJECT_MAPPER);
+
+        for (Pos pos : TestFixtures.getPosList()) {
+            if (pos.latitude() != null) {
+                assertThat(resolver.resolve(pos.latitude(), pos.longitude())).contains(pos.campus());
+            }
+        }
+        assertThat(resolver.resolve(52.52, 13.40)).isEmpty();
+    }
+
+    @Test
+    void gridLookupMatchesPolygonTests() throws Exception {
+        // a square with a hole, overlapped by a triangle listed later, and a separate multi-polygon part
+        List<CampusPolygon> polygons = GeoJsonCampusResolver.parsePolygons(OBJECT_MAPPER.readTree("""
+                {"type": "FeatureCollection", "features": [
+                  {"type": "Feature", "properties": {"campus": "ALTSTADT"}, "geometry": {"type": "Polygon", "coordinates": [
+                    [[8.0, 49.0], [8.1, 49.0], [8.1, 49.1], [8.0, 49.1], [8.0, 49.0]],
+                    [[8.04, 49.04], [8.06, 49.04], [8.06, 49.06], [8.04, 49.06], [8.04, 49.04]]]}},
+                  {"type": "Feature", "properties": {"campus": "INF"}, "geometry": {"type": "Polygon", "coordinates": [
+                    [[8.05, 49.05], [8.2, 49.02], [8.15, 49.15], [8.05, 49.05]]]}},
+                  {"type": "Feature", "properties": {"campus": "BERGHEIM"}, "geometry": {"type": "MultiPolygon", "coordinates": [
+                    [[[8.3, 49.3], [8.31, 49.3], [8.31, 49.31], [8.3, 49.3]]]]}}
+                ]}
+                """));
+        GeoJsonCampusResolver resolver = new GeoJsonCampusResolver(polygons, 0.007);
+
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            double latitude = 48.95 + random.nextDouble() * 0.4;
+            double longitude = 7.95 + random.nextDouble() * 0.4;
+            Optional<CampusType> expected = polygons.stream()
+                    .filter(polygon -> polygon.contains(latitude, longitude))
+                    .map(CampusPolygon::campus)
+                    .findFirst();
+
+            assertThat(resolver.resolve(latitude, longitude)).isEqualTo(expected);
+        }
+        assertThat(resolver.resolve(49.055, 8.058)).contains(CampusType.INF); // in the hole of the first polygon
+        assertThat(resolver.resolve(49.08, 8.09)).contains(CampusType.ALTSTADT); // overlap, first polygon wins
+    }
+}
@@ -0,0 +1,224 @@
+package de.seuhd.campuscoffee.domain.impl;
+
+import de.seuhd.campuscoffee.domain.config.OsmImportJobProperties;
+import de.seuhd.campuscoffee.domain.exceptions.OsmImportJobNotFoundException;
+import de.seuhd.campuscoffee.domain.exceptions.OsmServiceUnavailableException;
+import de.seuhd.campuscoffee.domain.model.OsmImportJob;
+import de.seuhd.campuscoffee.domain.model.OsmImportJobStatus;
+import de.seuhd.campuscoffee.domain.model.OsmImportResult;
+import de.seuhd.campuscoffee.domain.model.OsmImportStatus;
+import de.seuhd.campuscoffee.domain.ports.OsmDataService;
+import de.seuhd.campuscoffee.domain.ports.OsmImportJobDataService;
+import de.seuhd.campuscoffee.domain.ports.PosService;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for the execution of OSM import jobs, which are checkpointed after every batch.
+ */
+public class OsmImportJobServiceImplTest {
+    private static final List<Long> NODE_IDS = List.of(1L, 2L, 3L, 4L, 5L, 6L);
+    private static final OsmImportJobProperties PROPERTIES = new OsmImportJobProperties(1, 2, Duration.ofMillis(10), 2);
+
+    private final InMemoryOsmImportJobDataService jobDataService = new InMemoryOsmImportJobDataService();
+    private final List<List<Long>> importedBatches = new CopyOnWriteArrayList<>();
+    private final Answer<List<OsmImportResult>> importAll = invocation -> {
+        List<Long> batch = invocation.getArgument(0);
+        importedBatches.add(batch);
+        return batch.stream().map(nodeId -> result(nodeId, OsmImportStatus.IMPORTED)).toList();
+    };
+
+    @Test
+    void interruptedJobResumesFromLastCheckpoint() throws InterruptedException {
+        CountDownLatch secondBatchStarted = new CountDownLatch(1);
+        PosService posService = mock(PosService.class);
+        when(posService.importFromOsmNodes(anyList())).thenAnswer(invocation -> {
+            List<Long> batch = invocation.getArgument(0);
+            if (!importedBatches.isEmpty()) {
+                // like an in-flight fetch, the second batch is aborted by the shutdown and reports failed nodes
+                secondBatchStarted.countDown();
+                try {
+                    Thread.sleep(Duration.ofMinutes(1));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return batch.stream().map(nodeId -> result(nodeId, OsmImportStatus.FAILED)).toList();
+            }
+            return importAll.answer(invocation);
+        });
+        OsmImportJobServiceImpl service = createService(posService);
+        Long jobId = service.submit(NODE_IDS).id();
+
+        assertThat(secondBatchStarted.await(10, TimeUnit.SECONDS)).isTrue();
+        service.shutdown();
+
+        OsmImportJob interruptedJob = jobDataService.getById(jobId);
+        assertThat(interruptedJob.status()).isEqualTo(OsmImportJobStatus.RUNNING);
+        assertThat(interruptedJob.processedCount()).isEqualTo(2);
+        assertThat(interruptedJob.failedCount()).isZero();
+
+        // after a restart, the job continues with the interrupted batch
+        OsmImportJobServiceImpl restartedService = createService(succeedingPosService());
+        restartedService.resumeUnfinishedJobs();
+        OsmImportJob completedJob = awaitCompletion(jobId);
+        restartedService.shutdown();
+
+        assertThat(importedBatches).containsExactly(List.of(1L, 2L), List.of(3L, 4L), List.of(5L, 6L));
+        assertThat(completedJob.importedCount()).isEqualTo(NODE_IDS.size());
+        assertThat(completedJob.failedCount()).isZero();
+    }
+
+    @Test
+    void jobIsRequeuedIfOsmServiceIsUnavailable() throws InterruptedException {
+        PosService posService = succeedingPosService();
+        // the second batch fails once because of an open circuit breaker
+        doThrow(new OsmServiceUnavailableException("circuit breaker is open", Duration.ofMillis(50), null))
+                .doAnswer(importAll)
+                .when(posService).importFromOsmNodes(List.of(3L, 4L));
+        OsmImportJobServiceImpl service = createService(posService);
+
+        Long jobId = service.submit(NODE_IDS).id();
+        OsmImportJob completedJob = awaitCompletion(jobId);
+        service.shutdown();
+
+        assertThat(importedBatches).containsExactly(List.of(1L, 2L), List.of(3L, 4L), List.of(5L, 6L));
+        assertThat(completedJob.importedCount()).isEqualTo(NODE_IDS.size());
+    }
+
+    @Test
+    void jobFailsIfOsmServiceStaysUnavailable() throws InterruptedException {
+        PosService posService = succeedingPosService();
+        doThrow(new OsmServiceUnavailableException("circuit breaker is open", null, null))
+                .when(posService).importFromOsmNodes(List.of(3L, 4L));
+        OsmImportJobServiceImpl service = createService(posService);
+
+        Long jobId = service.submit(NODE_IDS).id();
+        OsmImportJob failedJob = awaitFinish(jobId);
+        service.shutdown();
+
+        assertThat(failedJob.status()).isEqualTo(OsmImportJobStatus.FAILED);
+        assertThat(failedJob.processedCount()).isEqualTo(2);
+        assertThat(failedJob.message()).contains("circuit breaker is open");
+        // the first attempt and two retries after 10 and 20 ms
+        verify(posService, times(3)).importFromOsmNodes(List.of(3L, 4L));
+    }
+
+    @Test
+    void jobSubmittedBeforeResumeIsExecutedOnce() throws InterruptedException {
+        CountDownLatch firstBatchStarted = new CountDownLatch(1);
+        CountDownLatch resumed = new CountDownLatch(1);
+        PosService posService = mock(PosService.class);
+        when(posService.importFromOsmNodes(anyList())).thenAnswer(invocation -> {
+            if (importedBatches.isEmpty()) {
+                firstBatchStarted.countDown();
+                resumed.await(10, TimeUnit.SECONDS);
+            }
+            return importAll.answer(invocation);
+        });
+        // with two workers, a job that is queued twice would be executed concurrently
+        OsmImportJobServiceImpl service = createService(posService, new OsmImportJobProperties(2, 2, Duration.ofMillis(10), 2));
+
+        // the job is submitted after the web server has started, but before the application is ready
+        Long jobId = service.submit(NODE_IDS).id();
+        assertThat(firstBatchStarted.await(10, TimeUnit.SECONDS)).isTrue();
+        service.resumeUnfinishedJobs();
+        Thread.sleep(100);
+        resumed.countDown();
+        OsmImportJob completedJob = awaitCompletion(jobId);
+        service.shutdown();
+
+        assertThat(importedBatches).containsExactly(List.of(1L, 2L), List.of(3L, 4L), List.of(5L, 6L));
+        assertThat(completedJob.importedCount()).isEqualTo(NODE_IDS.size());
+    }
+
+    private OsmImportJobServiceImpl createService(PosService posService) {
+        return createService(posService, PROPERTIES);
+    }
+
+    private OsmImportJobServiceImpl createService(PosService posService, OsmImportJobProperties properties) {
+        return new OsmImportJobServiceImpl(jobDataService, posService, mock(OsmDataService.class), properties);
+    }
+
+    private PosService succeedingPosService() {
+        PosService posService = mock(PosService.class);
+        when(posService.importFromOsmNodes(anyList())).thenAnswer(importAll);
+        return posService;
+    }
+
+    private OsmImportJob awaitCompletion(Long jobId) throws InterruptedException {
+        OsmImportJob job = awaitFinish(jobId);
+        assertThat(job.status()).isEqualTo(OsmImportJobStatus.COMPLETED);
+        return job;
+    }
+
+    private OsmImportJob awaitFinish(Long jobId) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (jobDataService.getById(jobId).status().isUnfinished() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        return jobDataService.getById(jobId);
+    }
+
+    private static OsmImportResult result(Long nodeId, OsmImportStatus status) {
+        return OsmImportResult.builder()
+                .nodeId(nodeId)
+                .status(status)
+                .build();
+    }
+
+    /**
+     * Keeps the jobs in memory, so that they survive a "restart" of the service.
+     */
+    private static class InMemoryOsmImportJobDataService implements OsmImportJobDataService {
+        private final Map<Long, OsmImportJob> jobs = new ConcurrentHashMap<>();
+        private final AtomicLong nextId = new AtomicLong(1);
+
+        @Override
+        public OsmImportJob create(OsmImportJob job) {
+            OsmImportJob createdJob = job.toBuilder().id(nextId.getAndIncrement()).build();
+            jobs.put(createdJob.id(), createdJob);
+            return createdJob;
+        }
+
+        @Override
+        public OsmImportJob update(OsmImportJob job) {
+            if (jobs.replace(job.id(), job) == null) {
+                throw new OsmImportJobNotFoundException(job.id());
+            }
+            return job;
+        }
+
+        @Override
+        public OsmImportJob getById(Long id) {
+            OsmImportJob job = jobs.get(id);
+            if (job == null) {
+                throw new OsmImportJobNotFoundException(id);
+            }
+            return job;
+        }
+
+        @Override
+        public List<OsmImportJob> getUnfinished() {
+            return jobs.values().stream()
+                    .filter(job -> job.status().isUnfinished())
+                    .toList();
+        }
+    }
+}
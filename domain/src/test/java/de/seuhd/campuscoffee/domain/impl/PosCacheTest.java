@@ -0,0 +1,57 @@
+package de.seuhd.campuscoffee.domain.impl;
+
+import de.seuhd.campuscoffee.domain.config.PosCacheProperties;
+import de.seuhd.campuscoffee.domain.model.Pos;
+import de.seuhd.campuscoffee.domain.tests.TestFixtures;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the bounded read-through cache of POS.
+ */
+public class PosCacheTest {
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2025, 11, 1, 12, 0);
+
+    private final PosCache cache = new PosCache(new PosCacheProperties(true, 10, Duration.ofMinutes(5)));
+    private final Pos pos = TestFixtures.getPosList().getFirst().toBuilder().id(1L).build();
+
+    @Test
+    void putIgnoresOutdatedVersion() {
+        Pos version2 = pos.toBuilder().description("Version 2").updatedAt(UPDATED_AT.plusSeconds(2)).build();
+        Pos version3 = pos.toBuilder().description("Version 3").updatedAt(UPDATED_AT.plusSeconds(3)).build();
+
+        // the updates of two concurrent writes reach the cache in a different order than they were committed
+        cache.put(version3);
+        cache.put(version2);
+
+        assertThat(cache.getById(pos.id(), id -> {
+            throw new AssertionError("POS " + id + " should be cached");
+        })).isEqualTo(version3);
+    }
+
+    @Test
+    void putIgnoresVersionWrittenBeforeRemoval() {
+        cache.put(pos);
+        cache.remove(pos.id());
+        // an update committed before the deletion that is applied after it, e.g., by a concurrent request
+        cache.put(pos.toBuilder().description("Updated").build());
+
+        assertThat(cache.stats().size()).isZero();
+    }
+
+    @Test
+    void putReplacesOlderVersion() {
+        Pos version2 = pos.toBuilder().description("Version 2").updatedAt(UPDATED_AT.plusSeconds(2)).build();
+        Pos version3 = pos.toBuilder().description("Version 3").updatedAt(UPDATED_AT.plusSeconds(3)).build();
+
+        cache.put(version2);
+        cache.put(version3);
+
+        assertThat(cache.getById(pos.id(), id -> version2)).isEqualTo(version3);
+        assertThat(cache.stats().hits()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,93 @@
+package de.seuhd.campuscoffee.domain.impl;
+
+import de.seuhd.campuscoffee.domain.config.PosChangeFeedProperties;
+import de.seuhd.campuscoffee.domain.model.Pos;
+import de.seuhd.campuscoffee.domain.model.PosChange;
+import de.seuhd.campuscoffee.domain.model.PosChangePage;
+import de.seuhd.campuscoffee.domain.model.PosChangeType;
+import de.seuhd.campuscoffee.domain.tests.TestFixtures;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the in-memory ring buffer of POS changes.
+ */
+public class PosChangeFeedTest {
+    private static final PosChangeFeedProperties PROPERTIES = new PosChangeFeedProperties(3);
+
+    private final PosChangeFeed feed = new PosChangeFeed(PROPERTIES);
+    private final long start = feed.getChanges(null, 1, Duration.ZERO).lastSequence();
+    private final Pos pos = TestFixtures.getPosList().getFirst().toBuilder().id(1L).build();
+
+    @Test
+    void getChangesResumesAfterSequence() {
+        feed.publish(PosChangeType.CREATED, pos);
+        feed.publish(PosChangeType.UPDATED, pos);
+        feed.publishDeleted(pos.id());
+
+        PosChangePage page = feed.getChanges(start + 1, 10, Duration.ZERO);
+
+        assertThat(page.reset()).isFalse();
+        assertThat(page.lastSequence()).isEqualTo(start + 3);
+        assertThat(page.changes()).extracting(PosChange::sequence).containsExactly(start + 2, start + 3);
+        assertThat(page.changes()).extracting(PosChange::type).containsExactly(PosChangeType.UPDATED, PosChangeType.DELETED);
+        assertThat(page.changes().getLast().pos()).isNull();
+        assertThat(feed.getChanges(start, 1, Duration.ZERO).changes()).extracting(PosChange::sequence)
+                .containsExactly(start + 1);
+        assertThat(feed.getChanges(null, 10, Duration.ZERO)).isEqualTo(new PosChangePage(List.of(), start + 3, false));
+    }
+
+    @Test
+    void getChangesResetsUnavailablePositions() {
+        for (int i = 0; i < 5; i++) {
+            feed.publish(PosChangeType.UPDATED, pos);
+        }
+
+        // the first two changes have been overwritten, so the changes after the start and the first one are incomplete
+        assertThat(feed.getChanges(start + 1, 10, Duration.ZERO).reset()).isTrue();
+        assertThat(feed.getChanges(start + 2, 10, Duration.ZERO).changes()).extracting(PosChange::sequence)
+                .containsExactly(start + 3, start + 4, start + 5);
+        // sequences beyond the last one are unknown
+        PosChangePage unknown = feed.getChanges(start + 42, 10, Duration.ZERO);
+        assertThat(unknown.reset()).isTrue();
+        assertThat(unknown.lastSequence()).isEqualTo(start + 5);
+    }
+
+    @Test
+    void getChangesResetsSequencesBeforeRestart() throws InterruptedException {
+        feed.publish(PosChangeType.CREATED, pos);
+        long sequenceBeforeRestart = feed.getChanges(null, 1, Duration.ZERO).lastSequence();
+
+        Thread.sleep(1); // the sequences of a restarted feed start after its start time in microseconds
+        PosChangeFeed restartedFeed = new PosChangeFeed(PROPERTIES);
+        restartedFeed.publish(PosChangeType.UPDATED, pos);
+
+        PosChangePage page = restartedFeed.getChanges(sequenceBeforeRestart, 10, Duration.ZERO);
+        assertThat(page.reset()).isTrue();
+        assertThat(page.changes()).isEmpty();
+        assertThat(page.lastSequence()).isGreaterThan(sequenceBeforeRestart);
+        assertThat(restartedFeed.getChanges(page.lastSequence() - 1, 10, Duration.ZERO).changes())
+                .extracting(PosChange::type).containsExactly(PosChangeType.UPDATED);
+    }
+
+    @Test
+    void getChangesWaitsForNextChange() {
+        feed.publishCleared();
+        assertThat(feed.getChanges(null, 10, Duration.ofMillis(10)).changes()).isEmpty();
+
+        CompletableFuture<PosChangePage> poll =
+                CompletableFuture.supplyAsync(() -> feed.getChanges(start + 1, 10, Duration.ofSeconds(10)));
+        feed.publish(PosChangeType.CREATED, pos);
+
+        assertThat(poll.join().changes()).singleElement().satisfies(change -> {
+            assertThat(change.sequence()).isEqualTo(start + 2);
+            assertThat(change.posId()).isEqualTo(pos.id());
+            assertThat(change.pos()).isEqualTo(pos);
+        });
+    }
+}
@@ -0,0 +1,115 @@
+package de.seuhd.campuscoffee.domain.impl;
+
+import de.seuhd.campuscoffee.domain.model.CampusType;
+import de.seuhd.campuscoffee.domain.model.Pos;
+import de.seuhd.campuscoffee.domain.model.PosFilter;
+import de.seuhd.campuscoffee.domain.model.PosType;
+import de.seuhd.campuscoffee.domain.tests.TestFixtures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the copy-on-write snapshot that serves POS reads in the in-memory read model mode.
+ */
+public class PosReadModelTest {
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2025, 11, 1, 12, 0);
+
+    private final PosReadModel readModel = new PosReadModel(true);
+    private List<Pos> posList;
+
+    @BeforeEach
+    void setUp() {
+        List<Pos> fixtures = TestFixtures.getPosList();
+        posList = IntStream.range(0, fixtures.size())
+                .mapToObj(i -> fixtures.get(i).toBuilder().id(i + 1L).updatedAt(UPDATED_AT.plusMinutes(i)).build())
+                .toList();
+        readModel.rebuild(posList.reversed()::forEach);
+    }
+
+    @Test
+    void readsAreServedFromSnapshot() {
+        assertThat(readModel.isLoaded()).isTrue();
+        assertThat(readModel.getAll(PosFilter.NONE)).isEqualTo(posList);
+        assertThat(readModel.getById(2L)).isEqualTo(posList.get(1));
+        assertThat(readModel.getById(99L)).isNull();
+        assertThat(readModel.getCatalogVersion().count()).isEqualTo(posList.size());
+        assertThat(readModel.getCatalogVersion().lastUpdatedAt()).isEqualTo(posList.getLast().updatedAt());
+    }
+
+    @Test
+    void filtersAndPagesAreOrderedById() {
+        PosFilter inf = new PosFilter(CampusType.INF, null, null, null);
+        assertThat(readModel.getAll(inf)).extracting(Pos::id).containsExactly(2L, 3L);
+        assertThat(readModel.getAll(new PosFilter(CampusType.INF, PosType.BAKERY, "Heidelberg", 69120)))
+                .extracting(Pos::id).containsExactly(2L);
+        assertThat(readModel.getAll(new PosFilter(null, null, "Other City", null)))
+                .extracting(Pos::id).containsExactly(4L);
+
+        assertThat(readModel.getPage(PosFilter.NONE, null, 3)).extracting(Pos::id).containsExactly(1L, 2L, 3L);
+        assertThat(readModel.getPage(PosFilter.NONE, 3L, 3)).extracting(Pos::id).containsExactly(4L);
+        assertThat(readModel.getPage(inf, 2L, 10)).extracting(Pos::id).containsExactly(3L);
+    }
+
+    @Test
+    void writesReplaceSnapshotWithoutChangingPreviousReads() {
+        List<Pos> before = readModel.getAll(PosFilter.NONE);
+
+        readModel.put(posList.getFirst().toBuilder().campus(CampusType.INF).build());
+        readModel.remove(3L);
+
+        assertThat(before).isEqualTo(posList);
+        assertThat(readModel.getAll(new PosFilter(CampusType.INF, null, null, null)))
+                .extracting(Pos::id).containsExactly(1L, 2L);
+        assertThat(readModel.getById(3L)).isNull();
+
+        readModel.clear();
+        assertThat(readModel.getAll(PosFilter.NONE)).isEmpty();
+        assertThat(readModel.isLoaded()).isTrue();
+    }
+
+    @Test
+    void putIgnoresOutdatedVersion() {
+        Pos current = posList.getFirst();
+        Pos newer = current.toBuilder().description("Newer").updatedAt(current.updatedAt().plusSeconds(1)).build();
+        Pos older = current.toBuilder().description("Older").updatedAt(current.updatedAt().minusSeconds(1)).build();
+
+        // the updates of two concurrent writes are applied in a different order than they were committed
+        readModel.put(newer);
+        readModel.putAll(List.of(older, posList.get(1)));
+
+        assertThat(readModel.getById(current.id())).isEqualTo(newer);
+        assertThat(readModel.getAll(PosFilter.NONE)).contains(newer).doesNotContain(older);
+    }
+
+    @Test
+    void putIgnoresVersionWrittenBeforeRemoval() {
+        Pos pos = posList.getFirst();
+        readModel.remove(pos.id());
+        // an update committed before the deletion that is applied after it, e.g., by a concurrent request
+        readModel.putAll(List.of(pos.toBuilder().description("Updated").build(), posList.get(1)));
+
+        assertThat(readModel.getById(pos.id())).isNull();
+        assertThat(readModel.getAll(PosFilter.NONE)).extracting(Pos::id).doesNotContain(pos.id());
+
+        readModel.clear();
+        readModel.put(posList.getLast());
+
+        assertThat(readModel.getAll(PosFilter.NONE)).isEmpty();
+    }
+
+    @Test
+    void disabledReadModelIsNeverLoaded() {
+        PosReadModel disabled = new PosReadModel(false);
+        disabled.rebuild(posList::forEach);
+        disabled.put(posList.getFirst());
+
+        assertThat(disabled.isLoaded()).isFalse();
+        assertThat(disabled.getAll(PosFilter.NONE)).isEmpty();
+    }
+}
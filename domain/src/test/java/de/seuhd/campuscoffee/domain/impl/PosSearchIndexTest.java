@@ -0,0 +1,95 @@
+package de.seuhd.campuscoffee.domain.impl;
+
+import de.seuhd.campuscoffee.domain.model.Pos;
+import de.seuhd.campuscoffee.domain.tests.TestFixtures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the in-memory trigram index used for POS search.
+ */
+public class PosSearchIndexTest {
+    private final PosSearchIndex index = new PosSearchIndex();
+    private List<Pos> posList;
+
+    @BeforeEach
+    void setUp() {
+        List<Pos> fixtures = TestFixtures.getPosList();
+        posList = IntStream.range(0, fixtures.size())
+                .mapToObj(i -> fixtures.get(i).toBuilder().id(i + 1L).build())
+                .toList();
+        posList.forEach(index::put);
+    }
+
+    @Test
+    void searchMatchesPrefixesAndTypos() {
+        assertThat(index.search("schmelz", 10)).extracting(Pos::name).containsExactly("Schmelzpunkt");
+        assertThat(index.search("Botnik", 10)).extracting(Pos::name).containsExactly("Café Botanik");
+        assertThat(index.search("vending mach", 10)).extracting(Pos::name).containsExactly("New Vending Machine");
+        assertThat(index.search("xyz", 10)).isEmpty();
+    }
+
+    @Test
+    void searchRanksNamesBeforeDescriptions() {
+        Pos waffleHouse = posList.get(1).toBuilder().name("Waffle House").description("Breakfast").build();
+        index.put(waffleHouse);
+
+        // "Schmelzpunkt" only mentions waffles in its description
+        assertThat(index.search("waffle", 10))
+                .extracting(Pos::name)
+                .containsExactly("Waffle House", "Schmelzpunkt");
+    }
+
+    @Test
+    void putReplacesIndexedPos() {
+        index.put(posList.getFirst().toBuilder().name("Marstall").build());
+
+        assertThat(index.search("schmelz", 10)).isEmpty();
+        assertThat(index.search("marst", 10)).extracting(Pos::id).containsExactly(posList.getFirst().id());
+        assertThat(index.size()).isEqualTo(posList.size());
+    }
+
+    @Test
+    void putIgnoresOutdatedVersion() {
+        Pos pos = posList.getFirst().toBuilder().updatedAt(LocalDateTime.of(2025, 11, 1, 12, 0)).build();
+        index.put(pos.toBuilder().name("Marstall").build());
+        // an update committed earlier that is applied later, e.g., by a concurrent request
+        index.put(pos.toBuilder().updatedAt(pos.updatedAt().minusSeconds(1)).build());
+
+        assertThat(index.search("schmelz", 10)).isEmpty();
+        assertThat(index.search("marst", 10)).extracting(Pos::id).containsExactly(pos.id());
+    }
+
+    @Test
+    void removeDropsPos() {
+        index.remove(posList.getFirst().id());
+
+        assertThat(index.search("schmelz", 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(posList.size() - 1);
+        // the POS that took over the slot of the removed POS is still found
+        Pos lastPos = posList.getLast();
+        assertThat(index.search(lastPos.name(), 10)).extracting(Pos::id).contains(lastPos.id());
+    }
+
+    @Test
+    void putIgnoresVersionWrittenBeforeRemoval() {
+        Pos pos = posList.getFirst();
+        index.remove(pos.id());
+        // an update committed before the deletion that is applied after it, e.g., by a concurrent request
+        index.put(pos.toBuilder().description("Updated").build());
+
+        assertThat(index.search("schmelz", 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(posList.size() - 1);
+
+        index.clear();
+        index.put(posList.getLast());
+
+        assertThat(index.size()).isZero();
+    }
+}
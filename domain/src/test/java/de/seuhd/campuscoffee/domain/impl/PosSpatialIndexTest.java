@@ -0,0 +1,157 @@
+package de.seuhd.campuscoffee.domain.impl;
+
+import de.seuhd.campuscoffee.domain.model.NearbyPos;
+import de.seuhd.campuscoffee.domain.model.Pos;
+import de.seuhd.campuscoffee.domain.tests.TestFixtures;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the grid-based spatial index of POS.
+ */
+public class PosSpatialIndexTest {
+    private static final double LATITUDE = 49.4122;
+    private static final double LONGITUDE = 8.6843;
+
+    private final PosSpatialIndex index = new PosSpatialIndex();
+
+    private final Random random = new Random(42);
+
+    @Test
+    void findNearestMatchesFullScan() {
+        List<Pos> posList = randomPosList(1, 2000, LATITUDE, LONGITUDE);
+        index.rebuild(posList::forEach);
+
+        for (int i = 0; i < 50; i++) {
+            double latitude = LATITUDE + (random.nextDouble() - 0.5) * 0.4;
+            double longitude = LONGITUDE + (random.nextDouble() - 0.5) * 0.6;
+            assertMatchesFullScan(posList, latitude, longitude, 100 + random.nextDouble() * 5000);
+        }
+    }
+
+    @Test
+    void findNearestWrapsAroundAntimeridian() {
+        List<Pos> posList = new ArrayList<>(randomPosList(1, 2000, LATITUDE, LONGITUDE));
+        posList.add(pos(2001L, 0.0, 179.995));
+        posList.add(pos(2002L, 0.0, -179.995));
+        index.rebuild(posList::forEach);
+
+        assertThat(index.findNearest(0.0, -179.999, 5000, 10))
+                .extracting(nearbyPos -> nearbyPos.pos().id())
+                .containsExactly(2002L, 2001L);
+        assertMatchesFullScan(posList, 0.0, 179.999, 5000);
+    }
+
+    @Test
+    void findNearestScansAllPosNearPoles() {
+        // the cells are only a few meters wide, so the rings would have to cover thousands of cells
+        List<Pos> posList = new ArrayList<>(randomPosList(1, 2000, LATITUDE, LONGITUDE));
+        posList.addAll(randomPosList(2001, 100, 89.75, 0));
+        posList.add(pos(2101L, 89.95, 180.0));
+        index.rebuild(posList::forEach);
+
+        assertMatchesFullScan(posList, 89.9, 0, 50000);
+        assertMatchesFullScan(posList, 90.0, 0, 1000);
+        assertThat(index.findNearest(89.9, 0, 50000, 200)).hasSize(101);
+    }
+
+    @Test
+    void findNearestReturnsDistances() {
+        index.put(pos(1L, LATITUDE, LONGITUDE));
+        index.put(pos(2L, LATITUDE + 0.01, LONGITUDE));
+
+        List<NearbyPos> nearest = index.findNearest(LATITUDE, LONGITUDE, 5000, 10);
+
+        assertThat(nearest).extracting(nearbyPos -> nearbyPos.pos().id()).containsExactly(1L, 2L);
+        assertThat(nearest.getFirst().distance()).isZero();
+        // one hundredth of a degree of latitude is about 1.1 km
+        assertThat(nearest.getLast().distance()).isBetween(1100.0, 1125.0);
+    }
+
+    @Test
+    void putReplacesAndRemovesPos() {
+        index.put(pos(1L, LATITUDE, LONGITUDE));
+        index.put(pos(1L, LATITUDE + 1, LONGITUDE));
+
+        assertThat(index.findNearest(LATITUDE, LONGITUDE, 1000, 10)).isEmpty();
+        assertThat(index.findNearest(LATITUDE + 1, LONGITUDE, 1000, 10)).hasSize(1);
+
+        index.put(pos(1L, null, null));
+
+        assertThat(index.size()).isZero();
+        assertThat(index.findNearest(LATITUDE + 1, LONGITUDE, 1000, 10)).isEmpty();
+    }
+
+    @Test
+    void putIgnoresOutdatedVersion() {
+        LocalDateTime updatedAt = LocalDateTime.of(2025, 11, 1, 12, 0);
+        index.put(pos(1L, LATITUDE + 1, LONGITUDE).toBuilder().updatedAt(updatedAt).build());
+        // an update committed earlier that is applied later, e.g., by a concurrent request
+        index.put(pos(1L, LATITUDE, LONGITUDE).toBuilder().updatedAt(updatedAt.minusSeconds(1)).build());
+
+        assertThat(index.findNearest(LATITUDE, LONGITUDE, 1000, 10)).isEmpty();
+        assertThat(index.findNearest(LATITUDE + 1, LONGITUDE, 1000, 10)).hasSize(1);
+
+        index.put(pos(1L, null, null).toBuilder().updatedAt(updatedAt.plusSeconds(1)).build());
+        index.put(pos(1L, LATITUDE, LONGITUDE).toBuilder().updatedAt(updatedAt).build());
+
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void putIgnoresVersionWrittenBeforeRemoval() {
+        Pos pos = pos(1L, LATITUDE, LONGITUDE);
+        index.put(pos);
+        index.remove(pos.id());
+        // an update committed before the deletion that is applied after it, e.g., by a concurrent request
+        index.put(pos.toBuilder().description("Updated").build());
+
+        assertThat(index.size()).isZero();
+        assertThat(index.findNearest(LATITUDE, LONGITUDE, 1000, 10)).isEmpty();
+
+        index.clear();
+        index.put(pos(2L, LATITUDE, LONGITUDE));
+
+        assertThat(index.size()).isZero();
+    }
+
+    private List<Pos> randomPosList(long firstId, int count, double latitude, double longitude) {
+        List<Pos> posList = new ArrayList<>(count);
+        for (long id = firstId; id < firstId + count; id++) {
+            posList.add(pos(id, latitude + (random.nextDouble() - 0.5) * 0.4, longitude + (random.nextDouble() - 0.5) * 0.6));
+        }
+        return posList;
+    }
+
+    private void assertMatchesFullScan(List<Pos> posList, double latitude, double longitude, double radius) {
+        List<Long> expectedIds = posList.stream()
+                .filter(pos -> distance(latitude, longitude, pos) <= radius)
+                .sorted(Comparator.comparingDouble(pos -> distance(latitude, longitude, pos)))
+                .limit(10)
+                .map(Pos::id)
+                .toList();
+
+        assertThat(index.findNearest(latitude, longitude, radius, 10))
+                .extracting(nearbyPos -> nearbyPos.pos().id())
+                .containsExactlyElementsOf(expectedIds);
+    }
+
+    private static Pos pos(Long id, Double latitude, Double longitude) {
+        return TestFixtures.getPosList().getFirst().toBuilder()
+                .id(id)
+                .latitude(latitude)
+                .longitude(longitude)
+                .build();
+    }
+
+    private static double distance(double latitude, double longitude, Pos pos) {
+        return PosSpatialIndex.distance(latitude, longitude, pos.latitude(), pos.longitude());
+    }
+}